@@ -1,6 +1,7 @@
 package com.arcitech.admin;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.CursorPage;
 import com.arcitech.user.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,18 @@ public class AdminDiscussionController {
         return ApiResponse.success("Message posted", discussionService.createMessage(request, sender));
     }
 
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    @GetMapping("/feed")
+    public ApiResponse<CursorPage<AdminDiscussionResponse>> feed(
+            @RequestParam(required = false) AdminDiscussionContext context,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success("Discussion feed",
+                discussionService.feed(context, projectId, category, cursor, size));
+    }
+
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN','DEVELOPER')")
     @GetMapping("/context/{context}")
     public ApiResponse<List<AdminDiscussionResponse>> listByContext(@PathVariable AdminDiscussionContext context) {
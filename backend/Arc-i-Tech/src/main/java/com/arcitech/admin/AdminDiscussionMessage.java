@@ -17,7 +17,11 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "admin_discussion_messages")
+@Table(name = "admin_discussion_messages", indexes = {
+        @Index(name = "idx_admin_discussion_context_created", columnList = "context, created_at"),
+        @Index(name = "idx_admin_discussion_project_created", columnList = "project_id, created_at"),
+        @Index(name = "idx_admin_discussion_category_created", columnList = "service_category, created_at")
+})
 public class AdminDiscussionMessage {
 
     @Id
@@ -1,12 +1,39 @@
 package com.arcitech.admin;
 
 import com.arcitech.project.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 public interface AdminDiscussionRepository extends JpaRepository<AdminDiscussionMessage, Long> {
+    @EntityGraph(attributePaths = {"sender", "project"})
     List<AdminDiscussionMessage> findByContextOrderByCreatedAtDesc(AdminDiscussionContext context);
+
+    @EntityGraph(attributePaths = {"sender", "project"})
     List<AdminDiscussionMessage> findByProjectOrderByCreatedAtDesc(Project project);
+
+    @EntityGraph(attributePaths = {"sender", "project"})
     List<AdminDiscussionMessage> findByServiceCategoryOrderByCreatedAtDesc(String serviceCategory);
+
+    // Newest-first keyset page; each filter is optional and lines up with one of the (filter, created_at) indexes
+    @EntityGraph(attributePaths = {"sender", "project"})
+    @Query("""
+            select m from AdminDiscussionMessage m
+            where (:context is null or m.context = :context)
+              and (:projectId is null or m.project.id = :projectId)
+              and (:category is null or m.serviceCategory = :category)
+              and (m.createdAt < :beforeCreatedAt or (m.createdAt = :beforeCreatedAt and m.id < :beforeId))
+            order by m.createdAt desc, m.id desc
+            """)
+    List<AdminDiscussionMessage> findFeedPage(@Param("context") AdminDiscussionContext context,
+                                              @Param("projectId") Long projectId,
+                                              @Param("category") String category,
+                                              @Param("beforeCreatedAt") OffsetDateTime beforeCreatedAt,
+                                              @Param("beforeId") long beforeId,
+                                              Pageable pageable);
 }
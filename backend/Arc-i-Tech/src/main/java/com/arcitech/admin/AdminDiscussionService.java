@@ -1,11 +1,16 @@
 package com.arcitech.admin;
 
+import com.arcitech.common.CursorPage;
+import com.arcitech.common.KeysetCursor;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectRepository;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchIndex;
 import com.arcitech.user.Role;
 import com.arcitech.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,8 +21,11 @@ import java.util.List;
 @Transactional
 public class AdminDiscussionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AdminDiscussionRepository discussionRepository;
     private final ProjectRepository projectRepository;
+    private final SearchIndex searchIndex;
 
     public AdminDiscussionResponse createMessage(AdminDiscussionRequest request, User sender) {
         if (sender.getRole() != Role.SUPER_ADMIN && sender.getRole() != Role.SUB_ADMIN) {
@@ -40,9 +48,31 @@ public class AdminDiscussionService {
                 .sender(sender)
                 .build();
 
-        return AdminDiscussionResponse.from(discussionRepository.save(message));
+        AdminDiscussionMessage saved = discussionRepository.save(message);
+        searchIndex.writeThrough(SearchDocument.from(saved));
+        return AdminDiscussionResponse.from(saved);
+    }
+
+    /**
+     * Newest-first discussion feed filtered by any combination of context, project and service
+     * category, paged by cursor.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AdminDiscussionResponse> feed(AdminDiscussionContext context,
+                                                    Long projectId,
+                                                    String serviceCategory,
+                                                    String cursor,
+                                                    int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor before = cursor == null || cursor.isBlank() ? KeysetCursor.end() : KeysetCursor.decode(cursor);
+        String category = serviceCategory == null || serviceCategory.isBlank() ? null : serviceCategory;
+        List<AdminDiscussionMessage> rows = discussionRepository.findFeedPage(context, projectId, category,
+                before.offsetDateTime(), before.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getCreatedAt(), row.getId()))
+                .map(AdminDiscussionResponse::from);
     }
 
+    @Transactional(readOnly = true)
     public List<AdminDiscussionResponse> fetchByContext(AdminDiscussionContext context) {
         return discussionRepository.findByContextOrderByCreatedAtDesc(context)
                 .stream()
@@ -50,6 +80,7 @@ public class AdminDiscussionService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<AdminDiscussionResponse> fetchByProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id " + projectId));
@@ -59,6 +90,7 @@ public class AdminDiscussionService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<AdminDiscussionResponse> fetchByServiceCategory(String category) {
         return discussionRepository.findByServiceCategoryOrderByCreatedAtDesc(category)
                 .stream()
@@ -0,0 +1,38 @@
+package com.arcitech.analytics;
+
+import com.arcitech.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/super-admin/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class AnalyticsController {
+
+    private final AnalyticsRollupService rollupService;
+
+    @GetMapping("/{metric}")
+    public ApiResponse<List<RollupValue>> metric(@PathVariable AnalyticsMetric metric) {
+        return ApiResponse.success(rollupService.snapshot(metric));
+    }
+
+    @GetMapping("/inquiries")
+    public ApiResponse<List<RollupValue>> inquiriesByDay(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        return ApiResponse.success(rollupService.inquiriesByDay(from, to));
+    }
+}
@@ -0,0 +1,85 @@
+package com.arcitech.analytics;
+
+import com.arcitech.inquiry.InquiryStatusChangedEvent;
+import com.arcitech.programs.ProductAccessStatusChangedEvent;
+import com.arcitech.project.ProjectStatusChangedEvent;
+import com.arcitech.project.ProjectTasksArchivedEvent;
+import com.arcitech.project.TaskStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns domain events into rollup deltas once the originating transaction has committed;
+ * {@link AnalyticsRollupService#apply} writes them in a transaction of their own.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsEventListener {
+
+    private final AnalyticsRollupService rollupService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectStatusChanged(ProjectStatusChangedEvent event) {
+        List<RollupDelta> deltas = new ArrayList<>(2);
+        if (event.previous() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.PROJECTS_BY_STATUS, event.previous().name(), AnalyticsRollup.ALL, -1));
+        }
+        if (event.current() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.PROJECTS_BY_STATUS, event.current().name(), AnalyticsRollup.ALL, 1));
+        }
+        rollupService.apply(deltas);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        List<RollupDelta> deltas = new ArrayList<>(2);
+        if (event.previous() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.TASKS_BY_ASSIGNEE_STATUS, event.previous().name(),
+                    AnalyticsRollupService.assigneeBucket(event.previousAssigneeId()), -1));
+        }
+        if (event.current() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.TASKS_BY_ASSIGNEE_STATUS, event.current().name(),
+                    AnalyticsRollupService.assigneeBucket(event.currentAssigneeId()), 1));
+        }
+        rollupService.apply(deltas);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectTasksArchived(ProjectTasksArchivedEvent event) {
+        long sign = event.restored() ? 1 : -1;
+        rollupService.apply(event.counts().stream()
+                .map(count -> new RollupDelta(AnalyticsMetric.TASKS_BY_ASSIGNEE_STATUS, count.status().name(),
+                        AnalyticsRollupService.assigneeBucket(count.assigneeId()), sign * count.count()))
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInquiryStatusChanged(InquiryStatusChangedEvent event) {
+        String day = AnalyticsRollupService.dayBucket(event.createdAt());
+        List<RollupDelta> deltas = new ArrayList<>(2);
+        if (event.previous() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.INQUIRIES_BY_DAY_STATUS, event.previous().name(), day, -1));
+        }
+        if (event.current() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.INQUIRIES_BY_DAY_STATUS, event.current().name(), day, 1));
+        }
+        rollupService.apply(deltas);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductAccessStatusChanged(ProductAccessStatusChangedEvent event) {
+        String product = event.productKey().name();
+        List<RollupDelta> deltas = new ArrayList<>(2);
+        if (event.previous() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.ACCESS_REQUESTS_BY_PRODUCT_STATUS, event.previous().name(), product, -event.count()));
+        }
+        if (event.current() != null) {
+            deltas.add(new RollupDelta(AnalyticsMetric.ACCESS_REQUESTS_BY_PRODUCT_STATUS, event.current().name(), product, event.count()));
+        }
+        rollupService.apply(deltas);
+    }
+}
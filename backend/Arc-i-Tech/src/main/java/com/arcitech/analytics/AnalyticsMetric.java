@@ -0,0 +1,16 @@
+package com.arcitech.analytics;
+
+/**
+ * Rollups kept in {@code analytics_rollups}. Each row is keyed by a dimension (always a status)
+ * and a bucket whose meaning depends on the metric.
+ */
+public enum AnalyticsMetric {
+    /** Bucket is {@link AnalyticsRollup#ALL}. */
+    PROJECTS_BY_STATUS,
+    /** Bucket is the assignee's user id, or {@link AnalyticsRollup#UNASSIGNED}. */
+    TASKS_BY_ASSIGNEE_STATUS,
+    /** Bucket is the UTC day the inquiry was submitted (ISO date). */
+    INQUIRIES_BY_DAY_STATUS,
+    /** Bucket is the product key. */
+    ACCESS_REQUESTS_BY_PRODUCT_STATUS
+}
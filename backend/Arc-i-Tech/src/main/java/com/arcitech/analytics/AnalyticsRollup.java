@@ -0,0 +1,45 @@
+package com.arcitech.analytics;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "analytics_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analytics_rollup_key", columnNames = {"metric", "dimension", "bucket"})
+})
+public class AnalyticsRollup {
+
+    public static final String ALL = "all";
+    public static final String UNASSIGNED = "unassigned";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 60)
+    private AnalyticsMetric metric;
+
+    @Column(nullable = false, length = 60)
+    private String dimension;
+
+    @Column(nullable = false, length = 60)
+    private String bucket;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.arcitech.analytics;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, Long> {
+
+    List<AnalyticsRollup> findByMetricOrderByDimensionAscBucketAsc(AnalyticsMetric metric);
+
+    List<AnalyticsRollup> findByMetricAndBucketBetweenOrderByBucketAscDimensionAsc(AnalyticsMetric metric,
+                                                                                  String fromBucket,
+                                                                                  String toBucket);
+
+    // Declaring the touched table stops Hibernate from evicting every second-level cache region on each upsert
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "analytics_rollups"))
+    @Query(value = """
+            insert into analytics_rollups (metric, dimension, bucket, total, updated_at)
+            values (:metric, :dimension, :bucket, :delta, :updatedAt)
+            on duplicate key update total = total + :delta, updated_at = :updatedAt
+            """, nativeQuery = true)
+    int increment(@Param("metric") String metric,
+                  @Param("dimension") String dimension,
+                  @Param("bucket") String bucket,
+                  @Param("delta") long delta,
+                  @Param("updatedAt") OffsetDateTime updatedAt);
+}
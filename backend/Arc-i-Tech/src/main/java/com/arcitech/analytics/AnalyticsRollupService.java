@@ -0,0 +1,173 @@
+package com.arcitech.analytics;
+
+import com.arcitech.inquiry.InquiryRepository;
+import com.arcitech.inquiry.InquiryStatus;
+import com.arcitech.programs.DashboardProductKey;
+import com.arcitech.programs.ProductAccessRequestRepository;
+import com.arcitech.programs.ProductAccessStatus;
+import com.arcitech.project.ProjectRepository;
+import com.arcitech.project.ProjectStatus;
+import com.arcitech.project.ProjectTaskRepository;
+import com.arcitech.project.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Applies incremental deltas to the analytics rollups and periodically recomputes them from the
+ * operational tables, which corrects any delta lost to a failed listener. Deltas and the reconcile
+ * each commit while holding {@link #lock}, so a reconcile never overwrites a delta that committed
+ * between its counts and its writes.
+ */
+@Slf4j
+@Service
+public class AnalyticsRollupService {
+
+    private final AnalyticsRollupRepository rollupRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskRepository projectTaskRepository;
+    private final InquiryRepository inquiryRepository;
+    private final ProductAccessRequestRepository productAccessRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public AnalyticsRollupService(AnalyticsRollupRepository rollupRepository,
+                                  ProjectRepository projectRepository,
+                                  ProjectTaskRepository projectTaskRepository,
+                                  InquiryRepository inquiryRepository,
+                                  ProductAccessRequestRepository productAccessRequestRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.projectRepository = projectRepository;
+        this.projectTaskRepository = projectTaskRepository;
+        this.inquiryRepository = inquiryRepository;
+        this.productAccessRequestRepository = productAccessRequestRepository;
+        // Listeners run after the originating commit, so deltas always need a transaction of their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    static String dayBucket(OffsetDateTime timestamp) {
+        return timestamp.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate().toString();
+    }
+
+    static String assigneeBucket(Long assigneeId) {
+        return assigneeId != null ? assigneeId.toString() : AnalyticsRollup.UNASSIGNED;
+    }
+
+    public void apply(List<RollupDelta> deltas) {
+        lock.readLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                OffsetDateTime now = OffsetDateTime.now();
+                for (RollupDelta delta : deltas) {
+                    if (delta.delta() != 0) {
+                        rollupRepository.increment(delta.metric().name(), delta.dimension(), delta.bucket(), delta.delta(), now);
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<RollupValue> snapshot(AnalyticsMetric metric) {
+        return rollupRepository.findByMetricOrderByDimensionAscBucketAsc(metric).stream()
+                .map(RollupValue::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RollupValue> inquiriesByDay(LocalDate from, LocalDate to) {
+        return rollupRepository.findByMetricAndBucketBetweenOrderByBucketAscDimensionAsc(
+                        AnalyticsMetric.INQUIRIES_BY_DAY_STATUS, from.toString(), to.toString())
+                .stream()
+                .map(RollupValue::from)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> recompute());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void recompute() {
+        Map<AnalyticsMetric, Map<RollupKey, Long>> expected = new HashMap<>();
+
+        Map<RollupKey, Long> projects = new HashMap<>();
+        for (Object[] row : projectRepository.countByStatus()) {
+            projects.put(new RollupKey(((ProjectStatus) row[0]).name(), AnalyticsRollup.ALL), (Long) row[1]);
+        }
+        expected.put(AnalyticsMetric.PROJECTS_BY_STATUS, projects);
+
+        Map<RollupKey, Long> tasks = new HashMap<>();
+        for (Object[] row : projectTaskRepository.countByAssigneeAndStatus()) {
+            tasks.put(new RollupKey(((TaskStatus) row[1]).name(), assigneeBucket((Long) row[0])), (Long) row[2]);
+        }
+        expected.put(AnalyticsMetric.TASKS_BY_ASSIGNEE_STATUS, tasks);
+
+        Map<RollupKey, Long> inquiries = new HashMap<>();
+        for (Object[] row : inquiryRepository.countByDayAndStatus()) {
+            inquiries.put(new RollupKey(((InquiryStatus) row[1]).name(), ((LocalDate) row[0]).toString()), (Long) row[2]);
+        }
+        expected.put(AnalyticsMetric.INQUIRIES_BY_DAY_STATUS, inquiries);
+
+        Map<RollupKey, Long> access = new HashMap<>();
+        for (Object[] row : productAccessRequestRepository.countByProductAndStatus()) {
+            access.put(new RollupKey(((ProductAccessStatus) row[1]).name(), ((DashboardProductKey) row[0]).name()), (Long) row[2]);
+        }
+        expected.put(AnalyticsMetric.ACCESS_REQUESTS_BY_PRODUCT_STATUS, access);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int corrected = 0;
+        for (Map.Entry<AnalyticsMetric, Map<RollupKey, Long>> entry : expected.entrySet()) {
+            Map<RollupKey, Long> remaining = new HashMap<>(entry.getValue());
+            for (AnalyticsRollup rollup : rollupRepository.findByMetricOrderByDimensionAscBucketAsc(entry.getKey())) {
+                Long total = remaining.remove(new RollupKey(rollup.getDimension(), rollup.getBucket()));
+                if (total == null) {
+                    rollupRepository.delete(rollup);
+                    corrected++;
+                } else if (total != rollup.getTotal()) {
+                    rollup.setTotal(total);
+                    rollup.setUpdatedAt(now);
+                    corrected++;
+                }
+            }
+            for (Map.Entry<RollupKey, Long> missing : remaining.entrySet()) {
+                rollupRepository.save(AnalyticsRollup.builder()
+                        .metric(entry.getKey())
+                        .dimension(missing.getKey().dimension())
+                        .bucket(missing.getKey().bucket())
+                        .total(missing.getValue())
+                        .updatedAt(now)
+                        .build());
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            log.info("Analytics reconciliation corrected {} rollup rows", corrected);
+        }
+    }
+
+    private record RollupKey(String dimension, String bucket) {
+    }
+}
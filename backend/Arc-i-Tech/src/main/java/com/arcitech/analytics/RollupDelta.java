@@ -0,0 +1,9 @@
+package com.arcitech.analytics;
+
+public record RollupDelta(
+        AnalyticsMetric metric,
+        String dimension,
+        String bucket,
+        long delta
+) {
+}
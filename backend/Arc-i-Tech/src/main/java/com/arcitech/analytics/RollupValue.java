@@ -0,0 +1,15 @@
+package com.arcitech.analytics;
+
+import java.time.OffsetDateTime;
+
+public record RollupValue(
+        String dimension,
+        String bucket,
+        long total,
+        OffsetDateTime updatedAt
+) {
+
+    public static RollupValue from(AnalyticsRollup rollup) {
+        return new RollupValue(rollup.getDimension(), rollup.getBucket(), rollup.getTotal(), rollup.getUpdatedAt());
+    }
+}
@@ -1,16 +1,21 @@
 package com.arcitech.approval.controller;
 
 import com.arcitech.approval.dto.ApprovalRequestDto;
+import com.arcitech.approval.dto.BulkApprovalUpdateDto;
 import com.arcitech.approval.entity.ApprovalRequest;
 import com.arcitech.approval.service.ApprovalService;
+import com.arcitech.common.BulkActionResult;
+import com.arcitech.common.CursorPage;
+import com.arcitech.user.Role;
+import com.arcitech.user.User;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/approval")
-@CrossOrigin(origins = "*")
 public class ApprovalController {
 
     private final ApprovalService approvalService;
@@ -26,11 +31,24 @@ public class ApprovalController {
         return ResponseEntity.ok(saved);
     }
 
-    // 📋 List all pending requests for sub-admin
+    // 📋 Page through pending requests (optionally for one sub-admin), oldest first
     @GetMapping("/pending")
-    public ResponseEntity<List<ApprovalRequest>> getPendingApprovals(@RequestParam(required = false) Long subAdminId) {
-        List<ApprovalRequest> list = approvalService.getPendingRequests(subAdminId);
-        return ResponseEntity.ok(list);
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SUB_ADMIN')")
+    public ResponseEntity<CursorPage<ApprovalRequest>> getPendingApprovals(
+            @AuthenticationPrincipal User caller,
+            @RequestParam(required = false) Long subAdminId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<ApprovalRequest> page = approvalService.getPendingRequests(queueOwner(caller, subAdminId), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    // 🔢 Pending count for dashboard badges
+    @GetMapping("/pending/count")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SUB_ADMIN')")
+    public ResponseEntity<Long> countPending(@AuthenticationPrincipal User caller,
+                                             @RequestParam(required = false) Long subAdminId) {
+        return ResponseEntity.ok(approvalService.countPending(queueOwner(caller, subAdminId)));
     }
 
     // 🟢 Update approval status (approve/reject)
@@ -41,4 +59,23 @@ public class ApprovalController {
         ApprovalRequest updated = approvalService.updateRequestStatus(id, status);
         return ResponseEntity.ok(updated);
     }
+
+    // 🟢 Approve or reject many requests at once (by ids or by sub-admin/type filter)
+    @PutMapping("/update/bulk")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SUB_ADMIN')")
+    public ResponseEntity<BulkActionResult> updateStatuses(@RequestBody BulkApprovalUpdateDto dto) {
+        BulkActionResult result = approvalService.updateRequestStatuses(dto);
+        return ResponseEntity.ok(result);
+    }
+
+    // Super-admins may read any queue or all of them; a sub-admin only ever sees their own
+    private static Long queueOwner(User caller, Long subAdminId) {
+        if (caller.getRole() == Role.SUPER_ADMIN) {
+            return subAdminId;
+        }
+        if (subAdminId != null && !subAdminId.equals(caller.getId())) {
+            throw new AccessDeniedException("You can only view your own approval queue");
+        }
+        return caller.getId();
+    }
 }
@@ -0,0 +1,23 @@
+package com.arcitech.approval.dto;
+
+import java.util.List;
+
+public class BulkApprovalUpdateDto {
+    private List<Long> ids;            // Explicit requests to update; when empty the filters below select them
+    private Long subAdminId;
+    private String requestType;
+    private String status;             // APPROVED or REJECTED
+
+    // Getters & Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public Long getSubAdminId() { return subAdminId; }
+    public void setSubAdminId(Long subAdminId) { this.subAdminId = subAdminId; }
+
+    public String getRequestType() { return requestType; }
+    public void setRequestType(String requestType) { this.requestType = requestType; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
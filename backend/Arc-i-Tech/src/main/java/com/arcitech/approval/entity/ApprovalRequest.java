@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "approval_requests")
+@Table(name = "approval_requests", indexes = {
+        @Index(name = "idx_approval_sub_admin_status_created", columnList = "sub_admin_id, status, created_at"),
+        @Index(name = "idx_approval_status_created", columnList = "status, created_at")
+})
 public class ApprovalRequest {
 
     @Id
@@ -13,15 +16,23 @@ public class ApprovalRequest {
 
     private Long userId;               // User who sent the request
     private Long subAdminId;           // Assigned sub-admin
-    private String requestType;        // e.g. MOCK_INTERVIEW, PROJECT_MENTORSHIP
-    private String status;             // PENDING, APPROVED, REJECTED
+
+    @Convert(converter = ApprovalRequestTypeConverter.class)
+    @Column(length = 40, updatable = false)
+    private ApprovalRequestType requestType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ApprovalStatus status;
+
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
-        this.status = (this.status == null) ? "PENDING" : this.status;
+        this.status = (this.status == null) ? ApprovalStatus.PENDING : this.status;
     }
 
     @PreUpdate
@@ -40,11 +51,11 @@ public class ApprovalRequest {
     public Long getSubAdminId() { return subAdminId; }
     public void setSubAdminId(Long subAdminId) { this.subAdminId = subAdminId; }
 
-    public String getRequestType() { return requestType; }
-    public void setRequestType(String requestType) { this.requestType = requestType; }
+    public ApprovalRequestType getRequestType() { return requestType; }
+    public void setRequestType(ApprovalRequestType requestType) { this.requestType = requestType; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public ApprovalStatus getStatus() { return status; }
+    public void setStatus(ApprovalStatus status) { this.status = status; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
@@ -0,0 +1,16 @@
+package com.arcitech.approval.entity;
+
+public enum ApprovalRequestType {
+    MOCK_INTERVIEW,
+    PROJECT_MENTORSHIP,
+    // Legacy free-text values that match neither of the above
+    OTHER;
+
+    public static ApprovalRequestType from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Unknown request type: " + value);
+        }
+    }
+}
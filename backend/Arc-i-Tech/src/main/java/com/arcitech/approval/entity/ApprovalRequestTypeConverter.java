@@ -0,0 +1,30 @@
+package com.arcitech.approval.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Reads the request type leniently. The column used to be free text, so rows written before it was
+ * typed may hold other spellings or values; those load as {@link ApprovalRequestType#OTHER} instead
+ * of failing the whole page. The column is not updatable, so the original text is never overwritten.
+ */
+@Converter
+public class ApprovalRequestTypeConverter implements AttributeConverter<ApprovalRequestType, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApprovalRequestType type) {
+        return type == null ? null : type.name();
+    }
+
+    @Override
+    public ApprovalRequestType convertToEntityAttribute(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ApprovalRequestType.from(value);
+        } catch (IllegalArgumentException ex) {
+            return ApprovalRequestType.OTHER;
+        }
+    }
+}
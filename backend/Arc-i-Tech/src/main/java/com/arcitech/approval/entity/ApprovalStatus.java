@@ -0,0 +1,15 @@
+package com.arcitech.approval.entity;
+
+public enum ApprovalStatus {
+    PENDING,
+    APPROVED,
+    REJECTED;
+
+    public static ApprovalStatus from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Unknown approval status: " + value);
+        }
+    }
+}
@@ -1,13 +1,85 @@
 package com.arcitech.approval.repository;
 
 import com.arcitech.approval.entity.ApprovalRequest;
+import com.arcitech.approval.entity.ApprovalRequestType;
+import com.arcitech.approval.entity.ApprovalStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ApprovalRepository extends JpaRepository<ApprovalRequest, Long> {
-    List<ApprovalRequest> findBySubAdminIdAndStatus(Long subAdminId, String status);
-    List<ApprovalRequest> findByStatus(String status);
+
+    // Keyset pages over idx_approval_sub_admin_status_created / idx_approval_status_created
+    @Query("""
+            select a from ApprovalRequest a
+            where a.subAdminId = :subAdminId and a.status = :status
+              and (a.createdAt > :afterCreatedAt or (a.createdAt = :afterCreatedAt and a.id > :afterId))
+            order by a.createdAt asc, a.id asc
+            """)
+    List<ApprovalRequest> findPageForSubAdmin(@Param("subAdminId") Long subAdminId,
+                                              @Param("status") ApprovalStatus status,
+                                              @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                              @Param("afterId") long afterId,
+                                              Pageable pageable);
+
+    @Query("""
+            select a from ApprovalRequest a
+            where a.status = :status
+              and (a.createdAt > :afterCreatedAt or (a.createdAt = :afterCreatedAt and a.id > :afterId))
+            order by a.createdAt asc, a.id asc
+            """)
+    List<ApprovalRequest> findPage(@Param("status") ApprovalStatus status,
+                                   @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                   @Param("afterId") long afterId,
+                                   Pageable pageable);
+
+    @Query("""
+            select a.subAdminId, count(a) from ApprovalRequest a
+            where a.status = com.arcitech.approval.entity.ApprovalStatus.PENDING
+            group by a.subAdminId
+            """)
+    List<Object[]> countPendingBySubAdmin();
+
+    @Query("select a.subAdminId from ApprovalRequest a where a.id in :ids")
+    List<Long> findSubAdminIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.id from ApprovalRequest a where a.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select a.id from ApprovalRequest a
+            where a.status = com.arcitech.approval.entity.ApprovalStatus.PENDING
+              and (:subAdminId is null or a.subAdminId = :subAdminId)
+              and (:requestType is null or a.requestType = :requestType)
+            order by a.createdAt asc
+            """)
+    List<Long> findPendingIds(@Param("subAdminId") Long subAdminId,
+                              @Param("requestType") ApprovalRequestType requestType,
+                              Pageable pageable);
+
+    @Query(value = "select id from approval_requests where id in (:ids) and status = 'PENDING' for update",
+            nativeQuery = true)
+    List<Long> lockPendingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct a.userId from ApprovalRequest a where a.id in :ids and a.userId is not null")
+    List<Long> findUserIds(@Param("ids") Collection<Long> ids);
+
+    // Bulk JPQL updates skip @PreUpdate, so updatedAt is set explicitly
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ApprovalRequest a
+            set a.status = :status, a.updatedAt = :updatedAt
+            where a.id in :ids and a.status = com.arcitech.approval.entity.ApprovalStatus.PENDING
+            """)
+    int updatePendingStatus(@Param("ids") Collection<Long> ids,
+                            @Param("status") ApprovalStatus status,
+                            @Param("updatedAt") LocalDateTime updatedAt);
 }
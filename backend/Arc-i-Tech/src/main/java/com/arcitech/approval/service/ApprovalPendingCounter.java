@@ -0,0 +1,120 @@
+package com.arcitech.approval.service;
+
+import com.arcitech.approval.repository.ApprovalRepository;
+import com.arcitech.datasource.PrimaryReads;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Pending approval counts per sub-admin, kept in memory so dashboard badges do not scan the queue.
+ * Deltas are applied after commit and the counts are periodically re-seeded from a grouped count.
+ * A transaction holds the read side of {@link #lock} from just before it commits until its delta is
+ * applied, and the re-seed holds the write side while it counts and sets; so every committed change
+ * is either in the count or applied after it, never both or neither.
+ */
+@Component
+public class ApprovalPendingCounter {
+
+    private final ApprovalRepository approvalRepository;
+    private final Map<Long, AtomicLong> bySubAdmin = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ApprovalPendingCounter(ApprovalRepository approvalRepository) {
+        this.approvalRepository = approvalRepository;
+    }
+
+    // Total pending count when subAdminId is null
+    public long pendingFor(Long subAdminId) {
+        if (subAdminId == null) {
+            return total.get();
+        }
+        AtomicLong count = bySubAdmin.get(subAdminId);
+        return count == null ? 0 : Math.max(0, count.get());
+    }
+
+    public void adjust(Long subAdminId, long delta) {
+        applyOnCommit(() -> {
+            total.addAndGet(delta);
+            if (subAdminId != null) {
+                bySubAdmin.computeIfAbsent(subAdminId, id -> new AtomicLong()).addAndGet(delta);
+            }
+        });
+    }
+
+    // Applies the same delta once per entry, e.g. one -1 for each request decided in bulk
+    public void adjustAll(Collection<Long> subAdminIds, long deltaEach) {
+        applyOnCommit(() -> subAdminIds.forEach(subAdminId -> {
+            total.addAndGet(deltaEach);
+            if (subAdminId != null) {
+                bySubAdmin.computeIfAbsent(subAdminId, id -> new AtomicLong()).addAndGet(deltaEach);
+            }
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${app.approval.pending-counter.reconcile-ms:600000}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Long> fresh = new HashMap<>();
+            long freshTotal = 0;
+            for (Object[] row : PrimaryReads.call(approvalRepository::countPendingBySubAdmin)) {
+                long count = (Long) row[1];
+                freshTotal += count;
+                if (row[0] != null) {
+                    fresh.put((Long) row[0], count);
+                }
+            }
+            fresh.forEach((subAdminId, count) ->
+                    bySubAdmin.computeIfAbsent(subAdminId, id -> new AtomicLong()).set(count));
+            bySubAdmin.keySet().retainAll(fresh.keySet());
+            total.set(freshTotal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyOnCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.readLock().lock();
+            try {
+                change.run();
+            } finally {
+                lock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    locked = false;
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+}
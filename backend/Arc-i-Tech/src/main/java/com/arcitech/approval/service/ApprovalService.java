@@ -1,44 +1,149 @@
 package com.arcitech.approval.service;
 
 import com.arcitech.approval.dto.ApprovalRequestDto;
+import com.arcitech.approval.dto.BulkApprovalUpdateDto;
 import com.arcitech.approval.entity.ApprovalRequest;
+import com.arcitech.approval.entity.ApprovalRequestType;
+import com.arcitech.approval.entity.ApprovalStatus;
 import com.arcitech.approval.repository.ApprovalRepository;
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
+import com.arcitech.common.BulkActionResult;
+import com.arcitech.common.CursorPage;
+import com.arcitech.common.KeysetCursor;
+import com.arcitech.user.NotificationService;
+import com.arcitech.user.NotificationType;
+import com.arcitech.user.UserNotification;
+import com.arcitech.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class ApprovalService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ApprovalRepository approvalRepository;
+    private final ApprovalPendingCounter pendingCounter;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final AuditLog auditLog;
+    private final int bulkMaxItems;
 
-    public ApprovalService(ApprovalRepository approvalRepository) {
+    public ApprovalService(ApprovalRepository approvalRepository,
+                           ApprovalPendingCounter pendingCounter,
+                           UserRepository userRepository,
+                           NotificationService notificationService,
+                           AuditLog auditLog,
+                           @Value("${app.programs.bulk.max-items:5000}") int bulkMaxItems) {
         this.approvalRepository = approvalRepository;
+        this.pendingCounter = pendingCounter;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.auditLog = auditLog;
+        this.bulkMaxItems = bulkMaxItems;
     }
 
     // Create and save approval request
+    @Transactional
     public ApprovalRequest sendApprovalRequest(ApprovalRequestDto dto) {
         ApprovalRequest request = new ApprovalRequest();
         request.setUserId(dto.getUserId());
-        request.setRequestType(dto.getRequestType());
-        request.setStatus("PENDING");
+        request.setRequestType(dto.getRequestType() == null ? null : ApprovalRequestType.from(dto.getRequestType()));
+        request.setStatus(ApprovalStatus.PENDING);
         request.setSubAdminId(dto.getSubAdminId());
-        return approvalRepository.save(request);
+        ApprovalRequest saved = approvalRepository.save(request);
+        pendingCounter.adjust(saved.getSubAdminId(), 1);
+        return saved;
     }
 
-    // Get all pending requests for a sub-admin
-    public List<ApprovalRequest> getPendingRequests(Long subAdminId) {
-        if (subAdminId != null) {
-            return approvalRepository.findBySubAdminIdAndStatus(subAdminId, "PENDING");
-        } else {
-            return approvalRepository.findByStatus("PENDING");
-        }
+    // Keyset page of pending requests (oldest first), optionally for one sub-admin
+    @Transactional(readOnly = true)
+    public CursorPage<ApprovalRequest> getPendingRequests(Long subAdminId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = cursor == null || cursor.isBlank() ? KeysetCursor.start() : KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ApprovalRequest> rows = subAdminId != null
+                ? approvalRepository.findPageForSubAdmin(subAdminId, ApprovalStatus.PENDING,
+                        after.localDateTime(), after.id(), limit)
+                : approvalRepository.findPage(ApprovalStatus.PENDING, after.localDateTime(), after.id(), limit);
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getCreatedAt(), row.getId()));
+    }
+
+    public long countPending(Long subAdminId) {
+        return pendingCounter.pendingFor(subAdminId);
     }
 
     // Approve or reject a request
+    @Transactional
     public ApprovalRequest updateRequestStatus(Long id, String status) {
         ApprovalRequest request = approvalRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Approval request not found"));
-        request.setStatus(status.toUpperCase());
+        ApprovalStatus previous = request.getStatus();
+        ApprovalStatus next = ApprovalStatus.from(status);
+        request.setStatus(next);
+        if (previous == ApprovalStatus.PENDING && next != ApprovalStatus.PENDING) {
+            pendingCounter.adjust(request.getSubAdminId(), -1);
+        } else if (previous != ApprovalStatus.PENDING && next == ApprovalStatus.PENDING) {
+            pendingCounter.adjust(request.getSubAdminId(), 1);
+        }
+        auditLog.record(AuditAction.APPROVAL_DECIDED, AuditTargetType.APPROVAL_REQUEST, id,
+                request.getRequestType() + " " + previous + " -> " + next);
         return approvalRepository.save(request);
     }
+
+    // Approve or reject many pending requests with a single UPDATE
+    @Transactional
+    public BulkActionResult updateRequestStatuses(BulkApprovalUpdateDto dto) {
+        ApprovalStatus status = ApprovalStatus.from(dto.getStatus());
+        if (status == ApprovalStatus.PENDING) {
+            throw new IllegalArgumentException("Status must be APPROVED or REJECTED");
+        }
+        ApprovalRequestType requestType = dto.getRequestType() == null ? null : ApprovalRequestType.from(dto.getRequestType());
+
+        Set<Long> requestedIds;
+        if (dto.getIds() == null || dto.getIds().isEmpty()) {
+            requestedIds = new LinkedHashSet<>(approvalRepository.findPendingIds(
+                    dto.getSubAdminId(), requestType, PageRequest.of(0, bulkMaxItems)));
+        } else if (dto.getIds().size() > bulkMaxItems) {
+            throw new IllegalArgumentException("At most " + bulkMaxItems + " requests can be updated at once");
+        } else {
+            requestedIds = new LinkedHashSet<>(dto.getIds());
+        }
+        if (requestedIds.isEmpty()) {
+            return BulkActionResult.of(requestedIds, Set.of(), Set.of());
+        }
+
+        Set<Long> existingIds = new HashSet<>(approvalRepository.findExistingIds(requestedIds));
+        Set<Long> updatedIds = new HashSet<>(approvalRepository.lockPendingIds(requestedIds));
+        if (!updatedIds.isEmpty()) {
+            pendingCounter.adjustAll(approvalRepository.findSubAdminIds(updatedIds), -1);
+            approvalRepository.updatePendingStatus(updatedIds, status, LocalDateTime.now());
+
+            String outcome = status.name().toLowerCase();
+            List<UserNotification> notifications = userRepository
+                    .findAllById(approvalRepository.findUserIds(updatedIds))
+                    .stream()
+                    .map(user -> UserNotification.builder()
+                            .recipient(user)
+                            .type(NotificationType.ACCESS_DECISION)
+                            .title("Approval request " + outcome)
+                            .message("Your approval request has been " + outcome + ".")
+                            .build())
+                    .toList();
+            notificationService.notifyBatch(notifications);
+            updatedIds.forEach(id -> auditLog.record(AuditAction.APPROVAL_DECIDED, AuditTargetType.APPROVAL_REQUEST,
+                    id, "PENDING -> " + status + " (bulk)"));
+        }
+        return BulkActionResult.of(requestedIds, existingIds, updatedIds);
+    }
 }
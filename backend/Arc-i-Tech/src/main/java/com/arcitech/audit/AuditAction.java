@@ -0,0 +1,16 @@
+package com.arcitech.audit;
+
+public enum AuditAction {
+    USER_CREATED,
+    USER_UPDATED,
+    USER_STATUS_CHANGED,
+    USER_DELETED,
+    PROJECT_UPDATED,
+    PROJECT_ARCHIVED,
+    PROJECT_RESTORED,
+    ACCESS_DECIDED,
+    APPROVAL_DECIDED,
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED
+}
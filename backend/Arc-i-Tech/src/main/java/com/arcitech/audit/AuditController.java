@@ -0,0 +1,40 @@
+package com.arcitech.audit;
+
+import com.arcitech.common.ApiResponse;
+import com.arcitech.common.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/super-admin/audit")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class AuditController {
+
+    private final AuditService auditService;
+    private final AuditLog auditLog;
+
+    @GetMapping
+    public ApiResponse<CursorPage<AuditEventResponse>> search(
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) AuditTargetType targetType,
+            @RequestParam(required = false) Long targetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success(auditService.search(actorId, targetType, targetId, from, to, cursor, size));
+    }
+
+    @GetMapping("/stats")
+    public ApiResponse<AuditLog.Stats> stats() {
+        return ApiResponse.success(auditLog.stats());
+    }
+}
@@ -0,0 +1,55 @@
+package com.arcitech.audit;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One row of the append-only audit trail. Rows are inserted by the {@link AuditLog} writer thread
+ * over JDBC and never updated; the actor's name is copied so entries outlive deleted accounts.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_occurred", columnList = "occurred_at, id"),
+        @Index(name = "idx_audit_actor_occurred", columnList = "actor_id, occurred_at"),
+        @Index(name = "idx_audit_target_occurred", columnList = "target_type, target_id, occurred_at")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private OffsetDateTime occurredAt;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(length = 160)
+    private String actorName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private AuditAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private AuditTargetType targetType;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(length = 500)
+    private String detail;
+}
@@ -0,0 +1,32 @@
+package com.arcitech.audit;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+
+    // Newest-first keyset page; an actor or target filter narrows onto its (filter, occurred_at) index
+    @Query("""
+            select e from AuditEvent e
+            where (:actorId is null or e.actorId = :actorId)
+              and (:targetType is null or e.targetType = :targetType)
+              and (:targetId is null or e.targetId = :targetId)
+              and (:from is null or e.occurredAt >= :from)
+              and (:to is null or e.occurredAt < :to)
+              and (e.occurredAt < :beforeOccurredAt or (e.occurredAt = :beforeOccurredAt and e.id < :beforeId))
+            order by e.occurredAt desc, e.id desc
+            """)
+    List<AuditEvent> findPage(@Param("actorId") Long actorId,
+                              @Param("targetType") AuditTargetType targetType,
+                              @Param("targetId") Long targetId,
+                              @Param("from") OffsetDateTime from,
+                              @Param("to") OffsetDateTime to,
+                              @Param("beforeOccurredAt") OffsetDateTime beforeOccurredAt,
+                              @Param("beforeId") long beforeId,
+                              Pageable pageable);
+}
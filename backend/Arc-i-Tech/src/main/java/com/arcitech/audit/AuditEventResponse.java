@@ -0,0 +1,28 @@
+package com.arcitech.audit;
+
+import java.time.OffsetDateTime;
+
+public record AuditEventResponse(
+        Long id,
+        OffsetDateTime occurredAt,
+        Long actorId,
+        String actorName,
+        AuditAction action,
+        AuditTargetType targetType,
+        Long targetId,
+        String detail
+) {
+
+    public static AuditEventResponse from(AuditEvent event) {
+        return new AuditEventResponse(
+                event.getId(),
+                event.getOccurredAt(),
+                event.getActorId(),
+                event.getActorName(),
+                event.getAction(),
+                event.getTargetType(),
+                event.getTargetId(),
+                event.getDetail()
+        );
+    }
+}
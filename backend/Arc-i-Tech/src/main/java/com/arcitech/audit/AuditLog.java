@@ -0,0 +1,216 @@
+package com.arcitech.audit;
+
+import com.arcitech.common.AfterCommit;
+import com.arcitech.user.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write path of the audit trail. Callers publish events into a lock-free ring once their transaction
+ * commits and return straight away; a single writer thread drains the ring in batches into the
+ * append-only {@code audit_events} table. When the ring is full the configured
+ * {@link AuditOverflowPolicy} decides whether the caller waits briefly or the event is dropped, and
+ * drops are counted in {@link #stats()}.
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    private static final String INSERT_EVENT = """
+            insert into audit_events (occurred_at, actor_id, actor_name, action, target_type, target_id, detail)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int MAX_DETAIL_LENGTH = 500;
+
+    private final AuditRingBuffer<PendingEvent> buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+
+    public AuditLog(JdbcTemplate jdbcTemplate,
+                    @Value("${app.audit.capacity:8192}") int capacity,
+                    @Value("${app.audit.batch-size:500}") int batchSize,
+                    @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMs,
+                    @Value("${app.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+                    @Value("${app.audit.block-timeout-ms:50}") long blockTimeoutMs) {
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.writer = new Thread(this::drainLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Records an action by the authenticated user, or by the system when nobody is signed in.
+     */
+    public void record(AuditAction action, AuditTargetType targetType, Long targetId, String detail) {
+        record(currentUser(), action, targetType, targetId, detail);
+    }
+
+    /**
+     * Records an action once the surrounding transaction commits; rolled-back work leaves no entry.
+     */
+    public void record(User actor, AuditAction action, AuditTargetType targetType, Long targetId, String detail) {
+        PendingEvent event = new PendingEvent(OffsetDateTime.now(),
+                actor != null ? actor.getId() : null,
+                actor != null ? actor.getFullName() : null,
+                action, targetType, targetId, truncate(detail));
+        AfterCommit.run(() -> publish(event));
+    }
+
+    public Stats stats() {
+        return new Stats(buffer.size(), buffer.capacity(), overflowPolicy, accepted.sum(), dropped.sum(),
+                written.sum(), failed.sum(), batches.sum(), lastFlushMillis.get());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // The writer stays the ring's only consumer and drains what is left before it exits
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.warn("Audit writer still flushing after shutdown timeout, {} events pending", buffer.size());
+        }
+    }
+
+    private void publish(PendingEvent event) {
+        if (!buffer.offer(event) && !waitForRoom(event)) {
+            dropped.increment();
+            log.warn("Audit buffer full, dropped {} on {} {}", event.action(), event.targetType(), event.targetId());
+            return;
+        }
+        accepted.increment();
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean waitForRoom(PendingEvent event) {
+        if (overflowPolicy != AuditOverflowPolicy.BLOCK || !running) {
+            return false;
+        }
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        LockSupport.unpark(writer);
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                    continue;
+                }
+                flush(batch);
+            } catch (RuntimeException ex) {
+                log.error("Audit flush failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+        try {
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+                batch.clear();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Final audit flush failed", ex);
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        long started = System.nanoTime();
+        List<Object[]> rows = batch.stream()
+                .map(event -> new Object[]{
+                        Timestamp.from(event.occurredAt().toInstant()),
+                        event.actorId(),
+                        event.actorName(),
+                        event.action().name(),
+                        event.targetType().name(),
+                        event.targetId(),
+                        event.detail()
+                })
+                .toList();
+        int[] types = {Types.TIMESTAMP, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.VARCHAR};
+        try {
+            jdbcTemplate.batchUpdate(INSERT_EVENT, rows, types);
+            written.add(batch.size());
+        } catch (RuntimeException ex) {
+            failed.add(batch.size());
+            log.error("Dropping {} audit events after a failed insert", batch.size(), ex);
+        }
+        batches.increment();
+        lastFlushMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private static User currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user : null;
+    }
+
+    private static String truncate(String detail) {
+        return detail == null || detail.length() <= MAX_DETAIL_LENGTH ? detail : detail.substring(0, MAX_DETAIL_LENGTH);
+    }
+
+    private record PendingEvent(
+            OffsetDateTime occurredAt,
+            Long actorId,
+            String actorName,
+            AuditAction action,
+            AuditTargetType targetType,
+            Long targetId,
+            String detail
+    ) {
+    }
+
+    public record Stats(
+            int buffered,
+            int capacity,
+            AuditOverflowPolicy overflowPolicy,
+            long accepted,
+            long dropped,
+            long written,
+            long failed,
+            long batches,
+            long lastFlushMillis
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.arcitech.audit;
+
+/**
+ * What {@link AuditLog} does when its buffer is full.
+ */
+public enum AuditOverflowPolicy {
+    /** Drop the new event straight away and count it. */
+    DROP,
+    /** Wait up to the configured block timeout for the writer to make room, then drop. */
+    BLOCK
+}
@@ -0,0 +1,68 @@
+package com.arcitech.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring for many producers and a single consumer. Producers claim a slot by moving
+ * the tail with a CAS and then publish into it; the consumer reads slots in order, clears them and
+ * moves the head. A claimed slot that is still empty has not been published yet, so the consumer
+ * stops there and picks it up on its next drain.
+ */
+final class AuditRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only the consumer writes head; producers read it to see how much room is left
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean offer(T item) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), item);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code limit} published items into {@code target}. Must only be called from the consumer.
+     */
+    int drainTo(List<T> target, int limit) {
+        long position = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (position & mask);
+            T item = slots.get(index);
+            if (item == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(item);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
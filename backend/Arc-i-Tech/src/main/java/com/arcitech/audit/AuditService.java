@@ -0,0 +1,46 @@
+package com.arcitech.audit;
+
+import com.arcitech.common.CursorPage;
+import com.arcitech.common.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuditEventRepository auditEventRepository;
+
+    /**
+     * Newest-first audit entries filtered by any combination of actor, target and a
+     * {@code [from, to)} time range, paged by cursor.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AuditEventResponse> search(Long actorId,
+                                                 AuditTargetType targetType,
+                                                 Long targetId,
+                                                 OffsetDateTime from,
+                                                 OffsetDateTime to,
+                                                 String cursor,
+                                                 int size) {
+        if (targetId != null && targetType == null) {
+            throw new IllegalArgumentException("targetType is required when filtering by targetId");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor before = cursor == null || cursor.isBlank() ? KeysetCursor.end() : KeysetCursor.decode(cursor);
+        List<AuditEvent> rows = auditEventRepository.findPage(actorId, targetType, targetId, from, to,
+                before.offsetDateTime(), before.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getOccurredAt(), row.getId()))
+                .map(AuditEventResponse::from);
+    }
+}
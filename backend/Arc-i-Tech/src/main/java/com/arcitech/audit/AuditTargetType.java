@@ -0,0 +1,9 @@
+package com.arcitech.audit;
+
+public enum AuditTargetType {
+    USER,
+    PROJECT,
+    ACCESS_REQUEST,
+    APPROVAL_REQUEST,
+    TASK
+}
@@ -0,0 +1,7 @@
+package com.arcitech.broadcast;
+
+public enum BroadcastAudience {
+    ALL_CUSTOMERS,
+    ALL_STAFF,
+    PROJECTS
+}
@@ -0,0 +1,46 @@
+package com.arcitech.broadcast;
+
+import com.arcitech.common.ApiResponse;
+import com.arcitech.user.User;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/broadcasts")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+public class BroadcastController {
+
+    private final BroadcastService broadcastService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<BroadcastJobResponse>> broadcast(@AuthenticationPrincipal User sender,
+                                                                       @Valid @RequestBody BroadcastRequest request) {
+        BroadcastJob job = broadcastService.submit(request, sender);
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("Broadcast queued", BroadcastJobResponse.from(job)));
+    }
+
+    @GetMapping
+    public ApiResponse<List<BroadcastJobResponse>> list() {
+        return ApiResponse.success(broadcastService.list().stream()
+                .map(BroadcastJobResponse::from)
+                .toList());
+    }
+
+    @GetMapping("/{broadcastId}")
+    public ApiResponse<BroadcastJobResponse> get(@PathVariable String broadcastId) {
+        return ApiResponse.success(BroadcastJobResponse.from(broadcastService.get(broadcastId)));
+    }
+}
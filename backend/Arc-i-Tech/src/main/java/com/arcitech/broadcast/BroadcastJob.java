@@ -0,0 +1,67 @@
+package com.arcitech.broadcast;
+
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * In-memory state and progress of one announcement broadcast.
+ */
+@Getter
+public class BroadcastJob {
+
+    private final String id;
+    private final BroadcastAudience audience;
+    private final List<Long> projectIds;
+    private final String title;
+    private final String message;
+    private final Long senderId;
+    private final OffsetDateTime createdAt;
+
+    private volatile BroadcastJobStatus status = BroadcastJobStatus.QUEUED;
+    private volatile long totalRecipients;
+    private volatile long delivered;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime completedAt;
+    private volatile OffsetDateTime expiresAt;
+    private volatile String error;
+
+    BroadcastJob(String id, BroadcastAudience audience, List<Long> projectIds, String title, String message, Long senderId) {
+        this.id = id;
+        this.audience = audience;
+        this.projectIds = projectIds;
+        this.title = title;
+        this.message = message;
+        this.senderId = senderId;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    void markRunning(long totalRecipients) {
+        this.totalRecipients = totalRecipients;
+        this.startedAt = OffsetDateTime.now();
+        this.status = BroadcastJobStatus.RUNNING;
+    }
+
+    // Only the single worker thread writes progress, so a volatile field is enough
+    void addDelivered(int count) {
+        this.delivered += count;
+    }
+
+    void markCompleted(OffsetDateTime expiresAt) {
+        this.completedAt = OffsetDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = BroadcastJobStatus.COMPLETED;
+    }
+
+    void markFailed(String error, OffsetDateTime expiresAt) {
+        this.error = error;
+        this.completedAt = OffsetDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = BroadcastJobStatus.FAILED;
+    }
+
+    boolean isExpired(OffsetDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
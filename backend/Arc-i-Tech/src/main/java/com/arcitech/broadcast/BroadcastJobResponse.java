@@ -0,0 +1,41 @@
+package com.arcitech.broadcast;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record BroadcastJobResponse(
+        String id,
+        BroadcastAudience audience,
+        List<Long> projectIds,
+        String title,
+        BroadcastJobStatus status,
+        long totalRecipients,
+        long delivered,
+        int percentComplete,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime completedAt,
+        String error
+) {
+
+    public static BroadcastJobResponse from(BroadcastJob job) {
+        long total = job.getTotalRecipients();
+        long delivered = job.getDelivered();
+        int percent = job.getStatus() == BroadcastJobStatus.COMPLETED ? 100
+                : total == 0 ? 0 : (int) Math.min(100, delivered * 100 / total);
+        return new BroadcastJobResponse(
+                job.getId(),
+                job.getAudience(),
+                job.getProjectIds(),
+                job.getTitle(),
+                job.getStatus(),
+                total,
+                delivered,
+                percent,
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt(),
+                job.getError()
+        );
+    }
+}
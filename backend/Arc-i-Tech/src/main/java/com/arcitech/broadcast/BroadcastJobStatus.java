@@ -0,0 +1,8 @@
+package com.arcitech.broadcast;
+
+public enum BroadcastJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.arcitech.broadcast;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BroadcastRequest(
+        @NotNull(message = "Audience is required")
+        BroadcastAudience audience,
+
+        // Required for the PROJECTS audience: clients and assigned members of these projects
+        List<Long> projectIds,
+
+        @NotBlank(message = "Title is required")
+        @Size(max = 200)
+        String title,
+
+        @Size(max = 2000)
+        String message
+) {
+}
@@ -0,0 +1,207 @@
+package com.arcitech.broadcast;
+
+import com.arcitech.common.TooManyRequestsException;
+import com.arcitech.sync.ChangeEntityType;
+import com.arcitech.sync.ChangeLogRecorder;
+import com.arcitech.sync.ChangeOperation;
+import com.arcitech.user.NotificationType;
+import com.arcitech.user.User;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends an announcement notification to every recipient of an audience on a background worker.
+ * Recipients are read in id order with one keyset query per batch, and each batch is inserted
+ * with a JDBC batch in its own short transaction, so large audiences never hold a request
+ * thread or a long-running transaction.
+ */
+@Slf4j
+@Service
+public class BroadcastService {
+
+    private static final String INSERT_SQL = """
+            insert into user_notifications (recipient_id, type, title, message, read_flag, created_at)
+            values (?, ?, ?, ?, false, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeLogRecorder changeLogRecorder;
+    private final int batchSize;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, BroadcastJob> jobs = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BroadcastService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ChangeLogRecorder changeLogRecorder,
+                            @Value("${app.broadcasts.batch-size:1000}") int batchSize,
+                            @Value("${app.broadcasts.retention-minutes:1440}") long retentionMinutes,
+                            @Value("${app.broadcasts.queue-capacity:10}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeLogRecorder = changeLogRecorder;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        // One worker: broadcasts run one after another rather than competing for the same tables
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "broadcast-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public BroadcastJob submit(BroadcastRequest request, User sender) {
+        List<Long> projectIds = request.projectIds() == null ? List.of() : List.copyOf(request.projectIds());
+        if (request.audience() == BroadcastAudience.PROJECTS && projectIds.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one project for a project broadcast");
+        }
+        BroadcastJob job = new BroadcastJob(UUID.randomUUID().toString(), request.audience(), projectIds,
+                request.title(), request.message(), sender.getId());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            throw new TooManyRequestsException("Too many broadcasts in progress, try again shortly", 10);
+        }
+        return job;
+    }
+
+    public BroadcastJob get(String id) {
+        BroadcastJob job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Broadcast not found");
+        }
+        return job;
+    }
+
+    public List<BroadcastJob> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(BroadcastJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.broadcasts.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        jobs.values().removeIf(job -> job.isExpired(now));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(BroadcastJob job) {
+        try {
+            String filter = recipientFilter(job.getAudience());
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("projectIds", job.getProjectIds().isEmpty() ? List.of(-1L) : job.getProjectIds())
+                    .addValue("senderId", job.getSenderId());
+            Long total = namedJdbcTemplate.queryForObject("select count(*) from users u where " + filter, params, Long.class);
+            job.markRunning(total == null ? 0 : total);
+
+            String pageSql = "select u.id from users u where " + filter + " and u.id > :afterId order by u.id limit :limit";
+            Timestamp createdAt = Timestamp.from(Instant.now());
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                params.addValue("afterId", afterId).addValue("limit", batchSize);
+                List<Long> recipients = namedJdbcTemplate.queryForList(pageSql, params, Long.class);
+                if (recipients.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> insertBatch(job, recipients, createdAt));
+                job.addDelivered(recipients.size());
+                afterId = recipients.get(recipients.size() - 1);
+            }
+            job.markCompleted(OffsetDateTime.now().plus(retention));
+            log.info("Broadcast {} delivered to {} recipients", job.getId(), job.getDelivered());
+        } catch (RuntimeException ex) {
+            log.warn("Broadcast {} failed after {} recipients", job.getId(), job.getDelivered(), ex);
+            job.markFailed(ex.getMessage(), OffsetDateTime.now().plus(retention));
+        }
+    }
+
+    private void insertBatch(BroadcastJob job, List<Long> recipients, Timestamp createdAt) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        statement.setLong(1, recipients.get(i));
+                        statement.setString(2, NotificationType.ANNOUNCEMENT.name());
+                        statement.setString(3, job.getTitle());
+                        statement.setString(4, job.getMessage());
+                        statement.setTimestamp(5, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return recipients.size();
+                    }
+                },
+                keys);
+
+        // The rows bypass Hibernate, so the delta-sync feed has to be told about them explicitly
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        List<ChangeLogRecorder.Change> changes = new ArrayList<>(keyList.size());
+        for (int i = 0; i < keyList.size(); i++) {
+            Number id = (Number) keyList.get(i).values().iterator().next();
+            changes.add(new ChangeLogRecorder.Change(ChangeEntityType.NOTIFICATION, id.longValue(),
+                    ChangeOperation.UPSERT, null, null, recipients.get(i)));
+        }
+        changeLogRecorder.record(entityManager.unwrap(SessionImplementor.class), changes);
+    }
+
+    private static String recipientFilter(BroadcastAudience audience) {
+        return switch (audience) {
+            case ALL_CUSTOMERS -> "u.active = true and u.role = 'CUSTOMER'";
+            case ALL_STAFF -> "u.active = true and u.role <> 'CUSTOMER' and u.id <> :senderId";
+            case PROJECTS -> """
+                    u.active = true and u.id <> :senderId
+                      and (exists (select 1 from project_assignments a where a.member_id = u.id and a.project_id in (:projectIds))
+                           or exists (select 1 from projects p where p.client_id = u.id and p.id in (:projectIds)))
+                    """;
+        };
+    }
+}
@@ -37,7 +37,7 @@ public class ServiceAdminController {
 
     @GetMapping("/super-admin/services")
     @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ApiResponse<List<ServiceOfferingResponse>> listServices() {
+    public ApiResponse<List<ServiceOfferingSummary>> listServices() {
         return ApiResponse.success("All services", catalogService.getAllServices());
     }
 }
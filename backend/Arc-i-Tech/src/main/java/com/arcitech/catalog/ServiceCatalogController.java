@@ -3,6 +3,7 @@ package com.arcitech.catalog;
 import com.arcitech.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,7 +17,7 @@ public class ServiceCatalogController {
     private final ServiceCatalogService serviceCatalogService;
 
     @GetMapping
-    public ApiResponse<List<ServiceOfferingResponse>> allServices() {
+    public ApiResponse<List<ServiceOfferingSummary>> allServices() {
         return ApiResponse.success("Service catalogue", serviceCatalogService.getAllServices());
     }
 
@@ -24,4 +25,9 @@ public class ServiceCatalogController {
     public ApiResponse<List<ServiceOfferingResponse>> featured() {
         return ApiResponse.success("Featured services", serviceCatalogService.getFeaturedServices());
     }
+
+    @GetMapping("/{serviceId}")
+    public ApiResponse<ServiceOfferingResponse> service(@PathVariable Long serviceId) {
+        return ApiResponse.success(serviceCatalogService.getService(serviceId));
+    }
 }
@@ -1,5 +1,10 @@
 package com.arcitech.catalog;
 
+import com.arcitech.common.SingleFlight;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchDocumentType;
+import com.arcitech.search.SearchIndex;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,7 +15,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ServiceCatalogService {
 
+    private static final String ALL_SERVICES_KEY = "services:all";
+
     private final ServiceOfferingRepository repository;
+    private final SearchIndex searchIndex;
+    private final SingleFlight singleFlight;
 
     @Transactional(readOnly = true)
     public List<ServiceOfferingResponse> getFeaturedServices() {
@@ -20,13 +29,17 @@ public class ServiceCatalogService {
                 .toList();
     }
 
+    // Summaries are projections, so the repository's own read-only transaction is enough and
+    // callers waiting on the shared load hold no connection
+    public List<ServiceOfferingSummary> getAllServices() {
+        return singleFlight.runCached(ALL_SERVICES_KEY, repository::findSummaries);
+    }
+
     @Transactional(readOnly = true)
-    public List<ServiceOfferingResponse> getAllServices() {
-        return repository.findAll()
-                .stream()
-                .sorted((a, b) -> a.getName().compareToIgnoreCase(b.getName()))
+    public ServiceOfferingResponse getService(Long serviceId) {
+        return repository.findById(serviceId)
                 .map(ServiceOfferingResponse::from)
-                .toList();
+                .orElseThrow(() -> new EntityNotFoundException("Service not found with id " + serviceId));
     }
 
     @Transactional
@@ -40,7 +53,10 @@ public class ServiceCatalogService {
                 .startingPrice(request.startingPrice())
                 .featured(Boolean.TRUE.equals(request.featured()))
                 .build();
-        return ServiceOfferingResponse.from(repository.save(offering));
+        ServiceOffering saved = repository.save(offering);
+        searchIndex.writeThrough(SearchDocument.from(saved));
+        singleFlight.invalidateAfterCommit(ALL_SERVICES_KEY);
+        return ServiceOfferingResponse.from(saved);
     }
 
     @Transactional
@@ -54,11 +70,16 @@ public class ServiceCatalogService {
         offering.setIcon(request.icon());
         offering.setStartingPrice(request.startingPrice());
         offering.setFeatured(Boolean.TRUE.equals(request.featured()));
-        return ServiceOfferingResponse.from(repository.save(offering));
+        ServiceOffering saved = repository.save(offering);
+        searchIndex.writeThrough(SearchDocument.from(saved));
+        singleFlight.invalidateAfterCommit(ALL_SERVICES_KEY);
+        return ServiceOfferingResponse.from(saved);
     }
 
     @Transactional
     public void delete(Long serviceId) {
         repository.deleteById(serviceId);
+        searchIndex.removeAfterCommit(SearchDocumentType.SERVICE, serviceId);
+        singleFlight.invalidateAfterCommit(ALL_SERVICES_KEY);
     }
 }
@@ -1,9 +1,18 @@
 package com.arcitech.catalog;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ServiceOfferingRepository extends JpaRepository<ServiceOffering, Long> {
     List<ServiceOffering> findByFeaturedTrueOrderByIdAsc();
+
+    @Query("""
+            select new com.arcitech.catalog.ServiceOfferingSummary(
+                s.id, s.name, s.shortDescription, s.category, s.icon, s.startingPrice, s.featured)
+            from ServiceOffering s
+            order by lower(s.name)
+            """)
+    List<ServiceOfferingSummary> findSummaries();
 }
@@ -0,0 +1,18 @@
+package com.arcitech.catalog;
+
+import java.math.BigDecimal;
+
+/**
+ * List row for a service. The short description stands in for the {@code @Lob} detailed
+ * description, which only {@link ServiceOfferingResponse} includes.
+ */
+public record ServiceOfferingSummary(
+        Long id,
+        String name,
+        String shortDescription,
+        String category,
+        String icon,
+        BigDecimal startingPrice,
+        boolean featured
+) {
+}
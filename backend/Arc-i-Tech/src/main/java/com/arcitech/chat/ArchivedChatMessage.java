@@ -0,0 +1,49 @@
+package com.arcitech.chat;
+
+import com.arcitech.user.Role;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cold copy of a chat message moved out of {@code chat_messages} by the retention job, keeping
+ * the original id.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "chat_messages_archive", indexes = {
+        @Index(name = "idx_chat_archive_customer_sent", columnList = "customer_id, sent_at")
+})
+public class ArchivedChatMessage {
+
+    @Id
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 25)
+    private Role senderRole;
+
+    @Column(nullable = false, length = 160)
+    private String senderName;
+
+    @Column(nullable = false, length = 3000)
+    private String message;
+
+    @Column(nullable = false)
+    private OffsetDateTime sentAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,28 @@
+package com.arcitech.chat;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ArchivedChatMessageRepository extends JpaRepository<ArchivedChatMessage, Long> {
+
+    // Newest-first keyset page over idx_chat_archive_customer_sent; the client reverses it for display
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select m from ArchivedChatMessage m
+            where m.customerId = :customerId
+              and (m.sentAt < :beforeSentAt or (m.sentAt = :beforeSentAt and m.id < :beforeId))
+            order by m.sentAt desc, m.id desc
+            """)
+    List<ArchivedChatMessage> findPage(@Param("customerId") Long customerId,
+                                       @Param("beforeSentAt") OffsetDateTime beforeSentAt,
+                                       @Param("beforeId") long beforeId,
+                                       Pageable pageable);
+}
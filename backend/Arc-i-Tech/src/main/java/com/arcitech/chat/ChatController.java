@@ -1,6 +1,7 @@
 package com.arcitech.chat;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.CursorPage;
 import com.arcitech.user.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,18 +23,55 @@ public class ChatController {
         return ApiResponse.success("Chat thread", chatService.getMessagesForCustomer(currentUser));
     }
 
+    @GetMapping("/chat/messages/archive")
+    public ApiResponse<CursorPage<ChatMessageDto>> myArchivedMessages(@AuthenticationPrincipal User currentUser,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success("Archived chat messages",
+                chatService.archivedMessages(currentUser.getId(), cursor, size));
+    }
+
     @PostMapping("/chat/messages")
     public ApiResponse<ChatMessageDto> sendCustomerMessage(@AuthenticationPrincipal User currentUser,
                                                            @Valid @RequestBody ChatMessageRequest request) {
         return ApiResponse.success("Message sent", chatService.postCustomerMessage(currentUser, request.message()));
     }
 
+    @PostMapping("/chat/read")
+    public ApiResponse<Void> markMyThreadRead(@AuthenticationPrincipal User currentUser) {
+        chatService.markReadByCustomer(currentUser);
+        return ApiResponse.success("Chat marked as read", null);
+    }
+
+    @GetMapping("/admin/chat/inbox")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<CursorPage<ChatConversationDto>> inbox(@RequestParam(defaultValue = "false") boolean unreadOnly,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success("Chat inbox", chatService.inbox(unreadOnly, cursor, size));
+    }
+
+    @PostMapping("/admin/chat/{customerId}/read")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<Void> markThreadRead(@PathVariable Long customerId) {
+        chatService.markReadByAdmin(customerId);
+        return ApiResponse.success("Chat marked as read", null);
+    }
+
     @GetMapping("/admin/chat/{customerId}/messages")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
     public ApiResponse<List<ChatMessageDto>> getMessagesForCustomer(@PathVariable Long customerId) {
         return ApiResponse.success("Chat thread", chatService.getMessagesForCustomerId(customerId));
     }
 
+    @GetMapping("/admin/chat/{customerId}/messages/archive")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<CursorPage<ChatMessageDto>> getArchivedMessagesForCustomer(@PathVariable Long customerId,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success("Archived chat messages", chatService.archivedMessages(customerId, cursor, size));
+    }
+
     @PostMapping("/admin/chat/{customerId}/messages")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
     public ApiResponse<ChatMessageDto> sendMessageToCustomer(@PathVariable Long customerId,
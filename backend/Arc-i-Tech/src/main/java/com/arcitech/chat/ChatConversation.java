@@ -0,0 +1,60 @@
+package com.arcitech.chat;
+
+import com.arcitech.user.Role;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One row per customer thread, kept current by {@link ChatService} on every post so the admin
+ * inbox never has to scan {@code chat_messages}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "chat_conversations", indexes = {
+        @Index(name = "idx_chat_conversation_activity", columnList = "last_message_at, customer_id")
+})
+public class ChatConversation {
+
+    public static final int PREVIEW_LENGTH = 280;
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(nullable = false, length = 160)
+    private String customerName;
+
+    @Column(nullable = false, length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 25)
+    private Role lastSenderRole;
+
+    @Column(nullable = false, length = 160)
+    private String lastSenderName;
+
+    @Column(nullable = false)
+    private OffsetDateTime lastMessageAt;
+
+    @Column(nullable = false)
+    private long messageCount;
+
+    // Customer messages no admin has read yet
+    @Column(nullable = false)
+    private int adminUnreadCount;
+
+    // Admin replies the customer has not read yet
+    @Column(nullable = false)
+    private int customerUnreadCount;
+}
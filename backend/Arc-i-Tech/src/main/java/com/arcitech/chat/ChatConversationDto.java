@@ -0,0 +1,31 @@
+package com.arcitech.chat;
+
+import com.arcitech.user.Role;
+
+import java.time.OffsetDateTime;
+
+public record ChatConversationDto(
+        Long customerId,
+        String customerName,
+        String lastMessagePreview,
+        Role lastSenderRole,
+        String lastSenderName,
+        OffsetDateTime lastMessageAt,
+        long messageCount,
+        int adminUnreadCount,
+        int customerUnreadCount
+) {
+    public static ChatConversationDto from(ChatConversation conversation) {
+        return new ChatConversationDto(
+                conversation.getCustomerId(),
+                conversation.getCustomerName(),
+                conversation.getLastMessagePreview(),
+                conversation.getLastSenderRole(),
+                conversation.getLastSenderName(),
+                conversation.getLastMessageAt(),
+                conversation.getMessageCount(),
+                conversation.getAdminUnreadCount(),
+                conversation.getCustomerUnreadCount()
+        );
+    }
+}
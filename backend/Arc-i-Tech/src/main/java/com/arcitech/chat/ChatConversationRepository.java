@@ -0,0 +1,86 @@
+package com.arcitech.chat;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ChatConversationRepository extends JpaRepository<ChatConversation, Long> {
+
+    // Keyset page over idx_chat_conversation_activity, most recent activity first
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select c from ChatConversation c
+            where (:unreadOnly = false or c.adminUnreadCount > 0)
+              and (c.lastMessageAt < :beforeAt or (c.lastMessageAt = :beforeAt and c.customerId < :beforeId))
+            order by c.lastMessageAt desc, c.customerId desc
+            """)
+    List<ChatConversation> findInboxPage(@Param("unreadOnly") boolean unreadOnly,
+                                         @Param("beforeAt") OffsetDateTime beforeAt,
+                                         @Param("beforeId") long beforeId,
+                                         Pageable pageable);
+
+    /**
+     * Folds one new message into the customer's summary, creating it on the first message. The
+     * last-message columns only move forward, and last_message_at is assigned last because MySQL
+     * applies the update list left to right.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_conversations"))
+    @Query(value = """
+            insert into chat_conversations (customer_id, customer_name, last_message_preview, last_sender_role,
+                                            last_sender_name, last_message_at, message_count,
+                                            admin_unread_count, customer_unread_count)
+            values (:customerId, :customerName, :preview, :senderRole, :senderName, :sentAt, 1,
+                    :adminUnread, :customerUnread)
+            on duplicate key update
+                customer_name = :customerName,
+                last_message_preview = case when :sentAt >= last_message_at then :preview else last_message_preview end,
+                last_sender_role = case when :sentAt >= last_message_at then :senderRole else last_sender_role end,
+                last_sender_name = case when :sentAt >= last_message_at then :senderName else last_sender_name end,
+                message_count = message_count + 1,
+                admin_unread_count = admin_unread_count + :adminUnread,
+                customer_unread_count = customer_unread_count + :customerUnread,
+                last_message_at = case when :sentAt >= last_message_at then :sentAt else last_message_at end
+            """, nativeQuery = true)
+    int recordMessage(@Param("customerId") Long customerId,
+                      @Param("customerName") String customerName,
+                      @Param("preview") String preview,
+                      @Param("senderRole") String senderRole,
+                      @Param("senderName") String senderName,
+                      @Param("sentAt") OffsetDateTime sentAt,
+                      @Param("adminUnread") int adminUnread,
+                      @Param("customerUnread") int customerUnread);
+
+    @Modifying
+    @Query("update ChatConversation c set c.adminUnreadCount = 0 where c.customerId = :customerId")
+    int markReadByAdmin(@Param("customerId") Long customerId);
+
+    @Modifying
+    @Query("update ChatConversation c set c.customerUnreadCount = 0 where c.customerId = :customerId")
+    int markReadByCustomer(@Param("customerId") Long customerId);
+
+    // Creates summaries for threads written before the table existed; unread counts start at zero
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_conversations"))
+    @Query(value = """
+            insert into chat_conversations (customer_id, customer_name, last_message_preview, last_sender_role,
+                                            last_sender_name, last_message_at, message_count,
+                                            admin_unread_count, customer_unread_count)
+            select m.customer_id, u.full_name, substring(m.message, 1, 280), m.sender_role, m.sender_name,
+                   m.sent_at, t.message_count, 0, 0
+            from (select customer_id, max(id) as last_id, count(*) as message_count
+                  from chat_messages group by customer_id) t
+            join chat_messages m on m.id = t.last_id
+            join users u on u.id = m.customer_id
+            where not exists (select 1 from chat_conversations c where c.customer_id = m.customer_id)
+            """, nativeQuery = true)
+    int backfillMissing();
+}
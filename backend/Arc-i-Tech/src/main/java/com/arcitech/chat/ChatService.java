@@ -1,23 +1,35 @@
 package com.arcitech.chat;
 
+import com.arcitech.common.CursorPage;
+import com.arcitech.common.KeysetCursor;
 import com.arcitech.user.Role;
 import com.arcitech.user.User;
 import com.arcitech.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ChatService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final UserService userService;
+    private final ChatConversationRepository conversationRepository;
+    private final ArchivedChatMessageRepository archivedMessageRepository;
 
+    @Transactional(readOnly = true)
     public List<ChatMessageDto> getMessagesForCustomer(User customer) {
         return chatMessageRepository.findByCustomerOrderBySentAtAsc(customer)
                 .stream()
@@ -25,6 +37,7 @@ public class ChatService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<ChatMessageDto> getMessagesForCustomerId(Long customerId) {
         return chatMessageRepository.findByCustomerIdOrderBySentAtAsc(customerId)
                 .stream()
@@ -32,6 +45,20 @@ public class ChatService {
                 .toList();
     }
 
+    /**
+     * Messages moved to the archive by the retention job, newest first, for "load older" in a thread.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ChatMessageDto> archivedMessages(Long customerId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor before = cursor == null || cursor.isBlank() ? KeysetCursor.end() : KeysetCursor.decode(cursor);
+        List<ArchivedChatMessage> rows = archivedMessageRepository.findPage(customerId,
+                before.offsetDateTime(), before.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getSentAt(), row.getId()))
+                .map(row -> new ChatMessageDto(row.getId(), row.getSenderRole(), row.getSenderName(),
+                        row.getMessage(), row.getSentAt()));
+    }
+
     public ChatMessageDto postCustomerMessage(User customer, String message) {
         ChatMessage chatMessage = ChatMessage.builder()
                 .customer(customer)
@@ -39,7 +66,9 @@ public class ChatService {
                 .senderName(customer.getFullName())
                 .message(message)
                 .build();
-        return ChatMessageDto.from(chatMessageRepository.save(chatMessage));
+        ChatMessage saved = chatMessageRepository.save(chatMessage);
+        recordInConversation(customer, saved);
+        return ChatMessageDto.from(saved);
     }
 
     public ChatMessageDto postAdminMessage(Long customerId, String message, User admin) {
@@ -56,6 +85,52 @@ public class ChatService {
                 .senderName(admin.getFullName())
                 .message(message)
                 .build();
-        return ChatMessageDto.from(chatMessageRepository.save(chatMessage));
+        ChatMessage saved = chatMessageRepository.save(chatMessage);
+        recordInConversation(customer, saved);
+        return ChatMessageDto.from(saved);
+    }
+
+    /**
+     * Conversations ordered by latest activity, optionally only those with customer messages no
+     * admin has read.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ChatConversationDto> inbox(boolean unreadOnly, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor before = cursor == null || cursor.isBlank() ? KeysetCursor.end() : KeysetCursor.decode(cursor);
+        List<ChatConversation> rows = conversationRepository.findInboxPage(unreadOnly,
+                before.offsetDateTime(), before.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getLastMessageAt(), row.getCustomerId()))
+                .map(ChatConversationDto::from);
+    }
+
+    public void markReadByAdmin(Long customerId) {
+        conversationRepository.markReadByAdmin(customerId);
+    }
+
+    public void markReadByCustomer(User customer) {
+        conversationRepository.markReadByCustomer(customer.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillConversations() {
+        int created = conversationRepository.backfillMissing();
+        if (created > 0) {
+            log.info("Created {} chat conversation summaries from existing messages", created);
+        }
+    }
+
+    private void recordInConversation(User customer, ChatMessage message) {
+        boolean fromCustomer = message.getSenderRole() == Role.CUSTOMER;
+        String text = message.getMessage();
+        conversationRepository.recordMessage(
+                customer.getId(),
+                customer.getFullName(),
+                text.length() > ChatConversation.PREVIEW_LENGTH ? text.substring(0, ChatConversation.PREVIEW_LENGTH) : text,
+                message.getSenderRole().name(),
+                message.getSenderName(),
+                message.getSentAt(),
+                fromCustomer ? 1 : 0,
+                fromCustomer ? 0 : 1);
     }
 }
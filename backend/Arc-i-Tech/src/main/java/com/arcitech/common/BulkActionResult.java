@@ -0,0 +1,36 @@
+package com.arcitech.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-item outcome of a set-based bulk action such as approving a queue of requests.
+ */
+public record BulkActionResult(
+        int requested,
+        int updated,
+        List<Item> items
+) {
+
+    public enum Outcome {
+        UPDATED,
+        ALREADY_DECIDED,
+        NOT_FOUND
+    }
+
+    public record Item(Long id, Outcome outcome) {
+    }
+
+    /**
+     * Classifies each requested id given the ids that exist and the ids the bulk update changed.
+     */
+    public static BulkActionResult of(Collection<Long> requestedIds, Set<Long> existingIds, Set<Long> updatedIds) {
+        List<Item> items = requestedIds.stream()
+                .map(id -> new Item(id, updatedIds.contains(id)
+                        ? Outcome.UPDATED
+                        : existingIds.contains(id) ? Outcome.ALREADY_DECIDED : Outcome.NOT_FOUND))
+                .toList();
+        return new BulkActionResult(requestedIds.size(), updatedIds.size(), items);
+    }
+}
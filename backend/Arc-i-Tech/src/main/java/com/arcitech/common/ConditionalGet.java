@@ -0,0 +1,32 @@
+package com.arcitech.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET for read endpoints. Controllers compute a {@link ResourceVersion} before loading
+ * anything else and return {@code null} when this reports the client copy is current; Spring then
+ * answers 304 without a body.
+ */
+public final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(WebRequest request, String scope, ResourceVersion version) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            HttpServletResponse response = servletRequest.getResponse();
+            if (response != null) {
+                // Clients must revalidate; the body differs per user and per negotiated encoding
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        return request.checkNotModified(version.etag(scope));
+    }
+}
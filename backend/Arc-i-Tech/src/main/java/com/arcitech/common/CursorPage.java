@@ -0,0 +1,29 @@
+package com.arcitech.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated slice; {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    /**
+     * Builds a page from a query that fetched {@code size + 1} rows, using the extra row only
+     * to detect whether another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,70 @@
+package com.arcitech.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in a list ordered by a timestamp and then by id, encoded as URL-safe base64.
+ */
+public record KeysetCursor(String sortKey, long id) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final OffsetDateTime FAR_FUTURE = OffsetDateTime.of(9000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    public static KeysetCursor of(LocalDateTime sortKey, long id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    public static KeysetCursor of(OffsetDateTime sortKey, long id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    /**
+     * Cursor that sorts before every row, used for the first page of an ascending list.
+     */
+    public static KeysetCursor start() {
+        return of(EPOCH, 0L);
+    }
+
+    /**
+     * Cursor that sorts after every row, used for the first page of a descending list.
+     */
+    public static KeysetCursor end() {
+        return of(FAR_FUTURE, Long.MAX_VALUE);
+    }
+
+    public static KeysetCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sortKey + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime localDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public OffsetDateTime offsetDateTime() {
+        try {
+            return OffsetDateTime.parse(sortKey);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.arcitech.common;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cheap version of a resource or collection: row count plus the newest {@code updatedAt},
+ * read with a single aggregate query. A change, insert or delete moves at least one of them.
+ * Payloads that embed fields of joined rows, such as a client or assignee name, fold those rows'
+ * {@code updatedAt} in as well through the wider constructors.
+ */
+public record ResourceVersion(
+        Long count,
+        OffsetDateTime lastModified
+) {
+
+    public ResourceVersion(Long count, OffsetDateTime lastModified, OffsetDateTime joinedLastModified) {
+        this(count, latest(lastModified, joinedLastModified));
+    }
+
+    public ResourceVersion(Long count,
+                           OffsetDateTime lastModified,
+                           OffsetDateTime joinedLastModified,
+                           OffsetDateTime otherJoinedLastModified) {
+        this(count, latest(latest(lastModified, joinedLastModified), otherJoinedLastModified));
+    }
+
+    /**
+     * Weak validator for the given scope, e.g. {@code projects:client:42}.
+     */
+    public String etag(String scope) {
+        long stamp = lastModified != null ? lastModified.toInstant().toEpochMilli() * 1_000
+                + lastModified.getNano() / 1_000 % 1_000 : 0;
+        return "W/\"" + scope + "." + count + "." + Long.toString(stamp, 36) + "\"";
+    }
+
+    private static OffsetDateTime latest(OffsetDateTime first, OffsetDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || !second.isAfter(first) ? first : second;
+    }
+}
@@ -0,0 +1,116 @@
+package com.arcitech.common;
+
+import com.arcitech.datasource.PrimaryReads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key computes the result and everyone
+ * arriving while it runs waits for that same result instead of repeating the work. With
+ * {@link #runCached} the result is also reused for a short while after it completes.
+ *
+ * <p>Results are shared between callers, so loaders must return immutable values such as records
+ * and {@code toList()} lists. Failures are not cached; every waiting caller sees the same exception.
+ */
+@Component
+public class SingleFlight {
+
+    private final Duration ttl;
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public SingleFlight(@Value("${app.single-flight.ttl-ms:2000}") long ttlMillis) {
+        this.ttl = Duration.ofMillis(ttlMillis);
+    }
+
+    /**
+     * Shares the result only with callers that arrive while it is being computed.
+     */
+    public <T> T run(String key, Supplier<T> loader) {
+        return execute(key, 0, loader);
+    }
+
+    /**
+     * Shares the result with concurrent callers and keeps serving it for the configured TTL. The
+     * loader reads from the primary, since a lagging replica row would be served for the whole TTL.
+     */
+    public <T> T runCached(String key, Supplier<T> loader) {
+        return execute(key, ttl.toNanos(), () -> PrimaryReads.call(loader));
+    }
+
+    /**
+     * Drops cached and in-flight results whose key starts with the prefix; a computation already
+     * running finishes for its current waiters but is not kept.
+     */
+    public void invalidate(String keyPrefix) {
+        flights.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    public void invalidateAfterCommit(String keyPrefix) {
+        AfterCommit.run(() -> invalidate(keyPrefix));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(String key, long ttlNanos, Supplier<T> loader) {
+        long now = System.nanoTime();
+        Flight[] started = new Flight[1];
+        Flight flight = flights.compute(key, (k, current) -> {
+            if (current != null && current.usable(now)) {
+                return current;
+            }
+            started[0] = new Flight();
+            return started[0];
+        });
+
+        if (flight != started[0]) {
+            return (T) flight.await();
+        }
+
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error ex) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+        flight.expiresAt = System.nanoTime() + ttlNanos;
+        flight.result.complete(value);
+        if (ttlNanos <= 0) {
+            flights.remove(key, flight);
+        }
+        return value;
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        boolean usable(long now) {
+            if (!result.isDone()) {
+                return true;
+            }
+            return !result.isCompletedExceptionally() && now - expiresAt < 0;
+        }
+
+        Object await() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
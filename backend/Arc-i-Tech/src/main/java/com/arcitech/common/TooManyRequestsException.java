@@ -0,0 +1,18 @@
+package com.arcitech.common;
+
+/**
+ * Signals that the caller should back off; mapped to 429 with a {@code Retry-After} header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
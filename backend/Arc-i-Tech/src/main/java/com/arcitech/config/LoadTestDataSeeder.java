@@ -0,0 +1,193 @@
+package com.arcitech.config;
+
+import com.arcitech.chat.ChatMessage;
+import com.arcitech.chat.ChatMessageRepository;
+import com.arcitech.project.Project;
+import com.arcitech.project.ProjectAssignment;
+import com.arcitech.project.ProjectAssignmentRepository;
+import com.arcitech.project.ProjectRepository;
+import com.arcitech.project.ProjectStatus;
+import com.arcitech.project.ProjectTask;
+import com.arcitech.project.ProjectTaskRepository;
+import com.arcitech.project.TaskPriority;
+import com.arcitech.project.TaskStatus;
+import com.arcitech.user.Role;
+import com.arcitech.user.User;
+import com.arcitech.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a synthetic tenant for load testing on top of the {@link DataInitializer} showcase data.
+ * Only active with the {@code loadtest} profile; the scale comes from {@code app.loadtest.seed.*}.
+ * Accounts follow {@code loadtest.customer{n}@arcitech.test} and {@code loadtest.dev{n}@arcitech.test}
+ * and share one password, which is hashed once so seeding large rosters stays fast.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class LoadTestDataSeeder implements CommandLineRunner {
+
+    static final String CUSTOMER_EMAIL = "loadtest.customer%d@arcitech.test";
+    static final String DEVELOPER_EMAIL = "loadtest.dev%d@arcitech.test";
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final ProjectStatus[] PROJECT_STATUSES = ProjectStatus.values();
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAssignmentRepository projectAssignmentRepository;
+    private final ProjectTaskRepository projectTaskRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int customers;
+    private final int developers;
+    private final int projectsPerCustomer;
+    private final int tasksPerProject;
+    private final int chatMessagesPerCustomer;
+    private final String password;
+
+    public LoadTestDataSeeder(UserRepository userRepository,
+                              ProjectRepository projectRepository,
+                              ProjectAssignmentRepository projectAssignmentRepository,
+                              ProjectTaskRepository projectTaskRepository,
+                              ChatMessageRepository chatMessageRepository,
+                              PasswordEncoder passwordEncoder,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.loadtest.seed.customers:200}") int customers,
+                              @Value("${app.loadtest.seed.developers:20}") int developers,
+                              @Value("${app.loadtest.seed.projects-per-customer:2}") int projectsPerCustomer,
+                              @Value("${app.loadtest.seed.tasks-per-project:25}") int tasksPerProject,
+                              @Value("${app.loadtest.seed.chat-messages-per-customer:20}") int chatMessagesPerCustomer,
+                              @Value("${app.loadtest.seed.password:LoadTest123!}") String password) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.projectAssignmentRepository = projectAssignmentRepository;
+        this.projectTaskRepository = projectTaskRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.customers = customers;
+        this.developers = developers;
+        this.projectsPerCustomer = projectsPerCustomer;
+        this.tasksPerProject = tasksPerProject;
+        this.chatMessagesPerCustomer = chatMessagesPerCustomer;
+        this.password = password;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByEmail(CUSTOMER_EMAIL.formatted(1))) {
+            log.info("Load-test data already present, skipping seeding");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        String passwordHash = passwordEncoder.encode(password);
+        Random random = new Random(42);
+
+        List<User> developerAccounts = transactionTemplate.execute(status -> {
+            List<User> accounts = new ArrayList<>(developers);
+            for (int i = 1; i <= developers; i++) {
+                accounts.add(account("Load Developer " + i, DEVELOPER_EMAIL.formatted(i), passwordHash, Role.DEVELOPER));
+            }
+            return userRepository.saveAll(accounts);
+        });
+
+        // One transaction per customer keeps the persistence context small at large scales
+        for (int i = 1; i <= customers; i++) {
+            int customerIndex = i;
+            transactionTemplate.executeWithoutResult(status ->
+                    seedCustomer(customerIndex, passwordHash, developerAccounts, random));
+        }
+
+        log.info("Seeded load-test data: {} customers, {} developers, {} projects, {} tasks in {} ms",
+                customers, developers, customers * projectsPerCustomer,
+                customers * projectsPerCustomer * tasksPerProject, System.currentTimeMillis() - started);
+    }
+
+    private void seedCustomer(int index, String passwordHash, List<User> developerAccounts, Random random) {
+        User customer = userRepository.save(
+                account("Load Customer " + index, CUSTOMER_EMAIL.formatted(index), passwordHash, Role.CUSTOMER));
+
+        for (int p = 1; p <= projectsPerCustomer; p++) {
+            Project project = projectRepository.save(Project.builder()
+                    .name("Load Project " + index + "-" + p)
+                    .summary("Synthetic project " + p + " for load customer " + index)
+                    .details("Generated for capacity testing. ".repeat(8))
+                    .status(PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)])
+                    .progressPercentage(random.nextInt(101))
+                    .autoProgress(true)
+                    .startDate(LocalDate.now().minusDays(random.nextInt(180)))
+                    .targetDate(LocalDate.now().plusDays(random.nextInt(180)))
+                    .highlighted(random.nextInt(50) == 0)
+                    .client(customer)
+                    .build());
+
+            User developer = developerAccounts.isEmpty()
+                    ? null
+                    : developerAccounts.get((index * projectsPerCustomer + p) % developerAccounts.size());
+            if (developer != null) {
+                projectAssignmentRepository.save(ProjectAssignment.builder()
+                        .project(project)
+                        .member(developer)
+                        .assignmentRole(Role.DEVELOPER)
+                        .build());
+            }
+
+            List<ProjectTask> tasks = new ArrayList<>(tasksPerProject);
+            for (int t = 1; t <= tasksPerProject; t++) {
+                TaskStatus status = STATUSES[random.nextInt(STATUSES.length)];
+                tasks.add(ProjectTask.builder()
+                        .project(project)
+                        .assignee(developer)
+                        .title("Task " + t + " of " + project.getName())
+                        .description("Synthetic task used by the load-test harness.")
+                        .status(status)
+                        .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                        .dueDate(LocalDate.now().plusDays(random.nextInt(60)))
+                        .build());
+                project.adjustTaskCount(status, 1);
+            }
+            projectTaskRepository.saveAll(tasks);
+            project.syncProgress();
+        }
+
+        List<ChatMessage> messages = new ArrayList<>(chatMessagesPerCustomer);
+        for (int m = 1; m <= chatMessagesPerCustomer; m++) {
+            boolean fromCustomer = m % 2 == 1;
+            messages.add(ChatMessage.builder()
+                    .customer(customer)
+                    .senderRole(fromCustomer ? Role.CUSTOMER : Role.SUB_ADMIN)
+                    .senderName(fromCustomer ? customer.getFullName() : "Operations Lead")
+                    .message("Load-test message " + m)
+                    .build());
+        }
+        chatMessageRepository.saveAll(messages);
+    }
+
+    private static User account(String fullName, String email, String passwordHash, Role role) {
+        return User.builder()
+                .fullName(fullName)
+                .email(email)
+                .password(passwordHash)
+                .role(role)
+                .active(true)
+                .build();
+    }
+}
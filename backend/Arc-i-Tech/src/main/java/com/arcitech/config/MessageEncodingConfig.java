@@ -0,0 +1,59 @@
+package com.arcitech.config;
+
+import com.arcitech.observability.RequestTimings;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Adds Smile ({@code application/x-jackson-smile}) and CBOR ({@code application/cbor}) alongside JSON.
+ * Clients opt in through the Accept header; both mappers share the application's Jackson settings.
+ * Like the JSON converter, both record their write time as the {@code serialize} request phase.
+ */
+@Configuration
+public class MessageEncodingConfig {
+
+    /**
+     * Smile back-references repeated names and short strings, which suits payloads such as the
+     * relationship graph where the same staff summaries appear many times.
+     */
+    public static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(smileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                try (RequestTimings.Phase ignored = RequestTimings.phase("serialize")) {
+                    super.writeInternal(object, type, outputMessage);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                try (RequestTimings.Phase ignored = RequestTimings.phase("serialize")) {
+                    super.writeInternal(object, type, outputMessage);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.arcitech.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Column changes that {@code ddl-auto=update} will not make on an existing schema. Hibernate creates
+ * {@code @Enumerated(STRING)} columns as native MySQL {@code enum(...)} types and never alters them,
+ * so a constant added to the Java enum later fails with "Data truncated". Columns listed here are
+ * widened to varchar when they are still native enums; on fresh schemas the entity mapping already
+ * creates varchar and nothing runs.
+ */
+@Slf4j
+@Component
+public class SchemaPatches {
+
+    private static final List<EnumColumn> ENUM_COLUMNS = List.of(
+            new EnumColumn("user_notifications", "type", "varchar(40) not null"),
+            new EnumColumn("user_notifications_archive", "type", "varchar(40) not null")
+    );
+
+    private static final String COLUMN_TYPE = """
+            select data_type from information_schema.columns
+            where table_schema = database() and table_name = ? and column_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Taking the EntityManagerFactory makes sure Hibernate's schema update has run first
+    public SchemaPatches(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void apply() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return;
+        }
+        for (EnumColumn column : ENUM_COLUMNS) {
+            try {
+                List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE, String.class, column.table(), column.name());
+                if (types.isEmpty() || !"enum".equalsIgnoreCase(types.get(0))) {
+                    continue;
+                }
+                jdbcTemplate.execute("alter table " + column.table() + " modify column `" + column.name() + "` "
+                        + column.definition());
+                log.info("Converted {}.{} from a native enum to {}", column.table(), column.name(), column.definition());
+            } catch (DataAccessException ex) {
+                log.error("Could not convert {}.{} to {}; inserts of newer enum values will fail until it is altered",
+                        column.table(), column.name(), column.definition(), ex);
+            }
+        }
+    }
+
+    private record EnumColumn(String table, String name, String definition) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.arcitech.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps reads inside a block on the primary. Results that outlive the request (caches, the search
+ * index) must not be filled from a replica that may still lag a write, or the lag is kept for as
+ * long as the entry lives. Only connections obtained inside the block are affected, so enter it
+ * before the transaction's first statement. Without a replica this does nothing.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> work) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    public static void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    static boolean active() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.arcitech.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces the single auto-configured pool with a primary/replica pair when
+ * {@code app.datasource.replica.url} is set. Read-only transactions go to the replica, everything
+ * else to the primary. Only the combined {@link DataSource} is a bean, so JPA and the SQL
+ * observability proxy see one data source.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-ms:5000}") long windowMs,
+            @Value("${app.datasource.replica.max-tracked-users:50000}") int maxUsers) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMs), maxUsers);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ReadYourWritesTracker tracker) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        String username = environment.getProperty("app.datasource.replica.username", properties.determineUsername());
+        String password = environment.getProperty("app.datasource.replica.password", properties.determinePassword());
+        HikariDataSource replica = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(environment.getProperty("app.datasource.replica.driver-class-name",
+                        properties.determineDriverClassName()))
+                .url(environment.getRequiredProperty("app.datasource.replica.url"))
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        return new ReadReplicaDataSource(primary, replica, tracker);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesTracker tracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        registration.addUrlPatterns("/api/*");
+        // Inside the security chain so the authenticated user is still available
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
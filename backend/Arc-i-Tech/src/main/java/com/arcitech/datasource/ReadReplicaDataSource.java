@@ -0,0 +1,40 @@
+package com.arcitech.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+/**
+ * Hands out connections from the primary, or from the replica when the connection is marked
+ * read-only before its first statement. Spring marks the connection for
+ * {@code @Transactional(readOnly = true)}, and the lazy proxy defers picking a pool until then.
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadReplicaDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, tracker));
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                // Shutting down; nothing useful to do with a failed pool close
+            }
+        }
+    }
+}
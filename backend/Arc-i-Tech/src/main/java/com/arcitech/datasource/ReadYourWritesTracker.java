@@ -0,0 +1,47 @@
+package com.arcitech.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently so their reads can stay on the primary until the replica
+ * has had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxUsers;
+
+    public ReadYourWritesTracker(Duration window, int maxUsers) {
+        this.windowNanos = window.toNanos();
+        this.maxUsers = maxUsers;
+    }
+
+    public void markWrite(Long userId) {
+        if (userId == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (stickyUntil.size() >= maxUsers) {
+            stickyUntil.values().removeIf(deadline -> deadline - now <= 0);
+        }
+        stickyUntil.put(userId, now + windowNanos);
+    }
+
+    public boolean requiresPrimary(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long deadline = stickyUntil.get(userId);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(userId, deadline);
+        return false;
+    }
+}
@@ -72,7 +72,8 @@ public class Inquiry {
 
     @jakarta.persistence.PrePersist
     void onCreate() {
-        this.createdAt = OffsetDateTime.now();
+        // Write-behind ingestion sets the time the inquiry was received
+        this.createdAt = this.createdAt == null ? OffsetDateTime.now() : this.createdAt;
         this.updatedAt = this.createdAt;
         this.status = this.status == null ? InquiryStatus.NEW : this.status;
     }
@@ -1,12 +1,17 @@
 package com.arcitech.inquiry;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.ConditionalGet;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -14,22 +19,44 @@ import java.util.List;
 public class InquiryController {
 
     private final InquiryService inquiryService;
+    private final InquiryRateLimiter rateLimiter;
+    private final InquiryWriteBehindBuffer writeBehindBuffer;
 
     @PostMapping("/inquiries")
-    public ApiResponse<InquiryResponse> createInquiry(@Valid @RequestBody InquiryRequest request) {
-        return ApiResponse.success("Inquiry submitted", inquiryService.createInquiry(request));
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Void> createInquiry(@Valid @RequestBody InquiryRequest request, HttpServletRequest servletRequest) {
+        rateLimiter.acquire(servletRequest.getRemoteAddr());
+        inquiryService.submitInquiry(request);
+        return ApiResponse.success("Inquiry submitted", null);
     }
 
     @GetMapping("/admin/inquiries")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
-    public ApiResponse<List<InquiryResponse>> listInquiries() {
+    public ApiResponse<List<InquirySummary>> listInquiries(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "inquiries:all", inquiryService.inquiriesVersion())) {
+            return null;
+        }
         return ApiResponse.success("All inquiries", inquiryService.getAllInquiries());
     }
 
+    @GetMapping("/admin/inquiries/{inquiryId}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<InquiryResponse> getInquiry(@PathVariable Long inquiryId) {
+        return ApiResponse.success(inquiryService.getInquiry(inquiryId));
+    }
+
     @PatchMapping("/admin/inquiries/{inquiryId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
     public ApiResponse<InquiryResponse> updateInquiry(@PathVariable Long inquiryId,
                                                       @Valid @RequestBody InquiryUpdateRequest request) {
         return ApiResponse.success("Inquiry updated", inquiryService.updateInquiry(inquiryId, request));
     }
+
+    @GetMapping("/super-admin/inquiries/ingestion")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ApiResponse<Map<String, Object>> ingestionStats() {
+        return ApiResponse.success(Map.of(
+                "rateLimiter", rateLimiter.stats(),
+                "writeBehind", writeBehindBuffer.stats()));
+    }
 }
@@ -0,0 +1,104 @@
+package com.arcitech.inquiry;
+
+import com.arcitech.common.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket per client address in front of public inquiry submission. Buckets are spread over
+ * lock stripes so concurrent clients rarely contend, and each stripe evicts its least recently
+ * seen clients once full.
+ */
+@Component
+public class InquiryRateLimiter {
+
+    private final Stripe[] stripes;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxClientsPerStripe;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public InquiryRateLimiter(@Value("${app.inquiries.rate-limit.capacity:5}") int capacity,
+                              @Value("${app.inquiries.rate-limit.refill-per-minute:5}") int refillPerMinute,
+                              @Value("${app.inquiries.rate-limit.stripes:64}") int stripeCount,
+                              @Value("${app.inquiries.rate-limit.max-clients:100000}") int maxClients) {
+        if (capacity < 1 || refillPerMinute < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Inquiry rate limit settings must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.maxClientsPerStripe = Math.max(1, maxClients / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Takes one token for the client or throws {@link TooManyRequestsException} with the time
+     * until the next token is available.
+     */
+    public void acquire(String clientKey) {
+        Stripe stripe = stripes[Math.floorMod(clientKey.hashCode(), stripes.length)];
+        long now = System.nanoTime();
+        double missing;
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(clientKey);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(clientKey, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                allowed.increment();
+                return;
+            }
+            missing = 1 - bucket.tokens;
+        }
+        rejected.increment();
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(missing / tokensPerNano / TimeUnit.SECONDS.toNanos(1)));
+        throw new TooManyRequestsException("Too many inquiries from this address, please try again later",
+                retryAfterSeconds);
+    }
+
+    public Stats stats() {
+        int tracked = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                tracked += stripe.buckets.size();
+            }
+        }
+        return new Stats(allowed.sum(), rejected.sum(), tracked);
+    }
+
+    public record Stats(long allowed, long rejected, int trackedClients) {
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private final class Stripe {
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxClientsPerStripe;
+            }
+        };
+    }
+}
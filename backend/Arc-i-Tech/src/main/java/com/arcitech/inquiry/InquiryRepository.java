@@ -1,10 +1,37 @@
 package com.arcitech.inquiry;
 
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.project.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Inquiry> findByProject(Project project);
+
+    @Query("""
+            select new com.arcitech.inquiry.InquirySummary(
+                i.id, i.fullName, i.email, i.phone, i.company, substring(i.message, 1, 280),
+                i.status, i.assignedTo, i.source, i.createdAt)
+            from Inquiry i
+            order by i.createdAt desc
+            """)
+    List<InquirySummary> findSummaries();
+
+    @Query("select new com.arcitech.common.ResourceVersion(count(i), max(i.updatedAt)) from Inquiry i")
+    ResourceVersion version();
+
+    // Timestamps are stored in UTC (serverTimezone=UTC), so the database date is the UTC day bucket
+    @Query("""
+            select cast(i.createdAt as LocalDate), i.status, count(i)
+            from Inquiry i
+            group by cast(i.createdAt as LocalDate), i.status
+            """)
+    List<Object[]> countByDayAndStatus();
 }
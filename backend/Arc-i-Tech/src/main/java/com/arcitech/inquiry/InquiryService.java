@@ -1,9 +1,13 @@
 package com.arcitech.inquiry;
 
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectRepository;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,49 +20,60 @@ public class InquiryService {
 
     private final InquiryRepository inquiryRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InquiryWriteBehindBuffer writeBehindBuffer;
+    private final SearchIndex searchIndex;
 
-    public InquiryResponse createInquiry(InquiryRequest request) {
-        Inquiry inquiry = Inquiry.builder()
-                .fullName(request.fullName())
-                .email(request.email())
-                .phone(request.phone())
-                .company(request.company())
-                .message(request.message())
-                .source(request.source())
-                .status(InquiryStatus.NEW)
-                .project(resolveProject(request.projectId()))
-                .build();
-        return InquiryResponse.from(inquiryRepository.save(inquiry));
+    /**
+     * Validates the submission and hands it to the write-behind buffer; the row is inserted with
+     * the next batch.
+     */
+    @Transactional(readOnly = true)
+    public void submitInquiry(InquiryRequest request) {
+        // findById is answered from the second-level project cache, so bursts do not reach the database here
+        if (request.projectId() != null && projectRepository.findById(request.projectId()).isEmpty()) {
+            throw new EntityNotFoundException("Project not found with id " + request.projectId());
+        }
+        writeBehindBuffer.enqueue(request);
     }
 
-    public List<InquiryResponse> getAllInquiries() {
-        return inquiryRepository.findAll()
-                .stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+    @Transactional(readOnly = true)
+    public ResourceVersion inquiriesVersion() {
+        return inquiryRepository.version();
+    }
+
+    @Transactional(readOnly = true)
+    public List<InquirySummary> getAllInquiries() {
+        return inquiryRepository.findSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public InquiryResponse getInquiry(Long id) {
+        return inquiryRepository.findById(id)
                 .map(InquiryResponse::from)
-                .toList();
+                .orElseThrow(() -> new EntityNotFoundException("Inquiry not found with id " + id));
     }
 
     public InquiryResponse updateInquiry(Long id, InquiryUpdateRequest request) {
         Inquiry inquiry = inquiryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Inquiry not found with id " + id));
+        InquiryStatus previousStatus = inquiry.getStatus();
         inquiry.setStatus(request.status());
         inquiry.setAssignedTo(request.assignedTo());
-        return InquiryResponse.from(inquiryRepository.save(inquiry));
+        Inquiry saved = inquiryRepository.save(inquiry);
+        if (previousStatus != saved.getStatus()) {
+            eventPublisher.publishEvent(new InquiryStatusChangedEvent(
+                    saved.getId(), saved.getCreatedAt(), previousStatus, saved.getStatus()));
+        }
+        searchIndex.writeThrough(SearchDocument.from(saved));
+        return InquiryResponse.from(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<InquiryResponse> findByProject(Project project) {
         return inquiryRepository.findByProject(project).stream()
                 .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
                 .map(InquiryResponse::from)
                 .toList();
     }
-
-    private Project resolveProject(Long projectId) {
-        if (projectId == null) {
-            return null;
-        }
-        return projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Project not found with id " + projectId));
-    }
 }
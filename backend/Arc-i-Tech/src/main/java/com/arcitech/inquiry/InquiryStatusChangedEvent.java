@@ -0,0 +1,14 @@
+package com.arcitech.inquiry;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Published when an inquiry is submitted ({@code previous} is null) or changes status.
+ */
+public record InquiryStatusChangedEvent(
+        Long inquiryId,
+        OffsetDateTime createdAt,
+        InquiryStatus previous,
+        InquiryStatus current
+) {
+}
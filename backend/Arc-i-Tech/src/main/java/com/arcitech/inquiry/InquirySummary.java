@@ -0,0 +1,21 @@
+package com.arcitech.inquiry;
+
+import java.time.OffsetDateTime;
+
+/**
+ * List row for an inquiry with the first 280 characters of the {@code @Lob} message;
+ * {@link InquiryResponse} from the detail endpoint carries the full text.
+ */
+public record InquirySummary(
+        Long id,
+        String fullName,
+        String email,
+        String phone,
+        String company,
+        String messagePreview,
+        InquiryStatus status,
+        String assignedTo,
+        String source,
+        OffsetDateTime createdAt
+) {
+}
@@ -0,0 +1,183 @@
+package com.arcitech.inquiry;
+
+import com.arcitech.common.TooManyRequestsException;
+import com.arcitech.project.ProjectRepository;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded queue between public inquiry submission and the database. A single writer thread drains
+ * it in batches and inserts each batch in one transaction; when a batch fails the rows are retried
+ * one by one so a single bad row does not lose the rest.
+ */
+@Slf4j
+@Component
+public class InquiryWriteBehindBuffer {
+
+    private final BlockingQueue<PendingInquiry> queue;
+    private final InquiryRepository inquiryRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+
+    public InquiryWriteBehindBuffer(InquiryRepository inquiryRepository,
+                                    ProjectRepository projectRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    SearchIndex searchIndex,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.inquiries.write-behind.capacity:10000}") int capacity,
+                                    @Value("${app.inquiries.write-behind.batch-size:200}") int batchSize,
+                                    @Value("${app.inquiries.write-behind.flush-interval-ms:250}") long flushIntervalMs) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.inquiryRepository = inquiryRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.writer = new Thread(this::drainLoop, "inquiry-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void enqueue(InquiryRequest request) {
+        if (!running) {
+            rejected.increment();
+            throw new TooManyRequestsException("Inquiries are paused while the service restarts, please try again shortly", 5);
+        }
+        if (!queue.offer(new PendingInquiry(request, OffsetDateTime.now()))) {
+            rejected.increment();
+            throw new TooManyRequestsException("We are receiving a lot of inquiries right now, please try again shortly", 5);
+        }
+        accepted.increment();
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), queue.remainingCapacity(), accepted.sum(), rejected.sum(),
+                written.sum(), failed.sum(), batches.sum(), lastFlushMillis.get());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // Stop accepting rows and let the writer finish its current batch; it exits at its next poll
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        // Whatever the writer did not get to is written synchronously before the context closes
+        List<PendingInquiry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        while (!remaining.isEmpty()) {
+            List<PendingInquiry> batch = remaining.subList(0, Math.min(batchSize, remaining.size()));
+            flush(new ArrayList<>(batch));
+            batch.clear();
+        }
+        if (writer.isAlive()) {
+            log.warn("Inquiry writer still busy after shutdown drain, interrupting it");
+            writer.interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingInquiry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingInquiry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Inquiry write-behind flush failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingInquiry> batch) {
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::insert));
+            written.add(batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Inquiry batch of {} failed, retrying rows individually", batch.size(), ex);
+            for (PendingInquiry pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(pending));
+                    written.increment();
+                } catch (RuntimeException rowFailure) {
+                    failed.increment();
+                    log.error("Dropping inquiry from {} received at {}",
+                            pending.request().email(), pending.receivedAt(), rowFailure);
+                }
+            }
+        }
+        batches.increment();
+        lastFlushMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void insert(PendingInquiry pending) {
+        InquiryRequest request = pending.request();
+        Inquiry saved = inquiryRepository.save(Inquiry.builder()
+                .fullName(request.fullName())
+                .email(request.email())
+                .phone(request.phone())
+                .company(request.company())
+                .message(request.message())
+                .source(request.source())
+                .status(InquiryStatus.NEW)
+                .project(request.projectId() != null ? projectRepository.getReferenceById(request.projectId()) : null)
+                .createdAt(pending.receivedAt())
+                .build());
+        eventPublisher.publishEvent(new InquiryStatusChangedEvent(saved.getId(), saved.getCreatedAt(), null, saved.getStatus()));
+        searchIndex.writeThrough(SearchDocument.from(saved));
+    }
+
+    private record PendingInquiry(InquiryRequest request, OffsetDateTime receivedAt) {
+    }
+
+    public record Stats(
+            int queued,
+            int remainingCapacity,
+            long accepted,
+            long rejected,
+            long written,
+            long failed,
+            long batches,
+            long lastFlushMillis
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.arcitech.observability;
+
+/**
+ * Hit/miss counters for one second-level cache region since startup or the last eviction.
+ */
+public record CacheRegionStats(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long elementsInMemory,
+        double hitRate
+) {
+}
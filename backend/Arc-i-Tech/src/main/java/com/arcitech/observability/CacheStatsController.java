@@ -0,0 +1,61 @@
+package com.arcitech.observability;
+
+import com.arcitech.common.ApiResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/super-admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class CacheStatsController {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @GetMapping
+    public ApiResponse<List<CacheRegionStats>> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return ApiResponse.success("Cache statistics are off; set hibernate.generate_statistics=true to collect them",
+                    List.of());
+        }
+        List<CacheRegionStats> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> toStats(name, statistics.getCacheRegionStatistics(name)))
+                .filter(Objects::nonNull)
+                .toList();
+        return ApiResponse.success(regions);
+    }
+
+    /**
+     * Drops every cached entity, for use after rows were changed directly in the database.
+     */
+    @DeleteMapping
+    public ApiResponse<Void> evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        return ApiResponse.success("Second-level cache cleared", null);
+    }
+
+    private static CacheRegionStats toStats(String name, CacheRegionStatistics region) {
+        if (region == null) {
+            return null;
+        }
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        long lookups = hits + misses;
+        return new CacheRegionStats(name, hits, misses, region.getPutCount(), region.getElementCountInMemory(),
+                lookups == 0 ? 0 : (double) hits / lookups);
+    }
+}
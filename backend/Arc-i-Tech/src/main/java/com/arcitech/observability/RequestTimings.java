@@ -0,0 +1,115 @@
+package com.arcitech.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request phase timings collected on the request thread. {@link ServerTimingFilter} opens a
+ * collector for each request; when the filter is disabled no collector exists and every call here
+ * returns immediately.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Phase NOOP = () -> {
+    };
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Entry> phases = new LinkedHashMap<>();
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Times a block of work under {@code name}; repeated phases with the same name accumulate.
+     */
+    public static Phase phase(String name) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return NOOP;
+        }
+        long started = System.nanoTime();
+        return () -> timings.add(name, System.nanoTime() - started);
+    }
+
+    public static void record(String name, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(name, nanos);
+        }
+    }
+
+    private void add(String name, long nanos) {
+        phases.computeIfAbsent(name, key -> new Entry()).add(nanos);
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Renders the phases in {@code Server-Timing} syntax, e.g. {@code auth;dur=1.2, db;dur=8.4;desc="6"}.
+     */
+    String toHeader(boolean includeTotal) {
+        String header = phases.entrySet().stream()
+                .map(entry -> metric(entry.getKey(), entry.getValue().nanos,
+                        entry.getValue().count > 1 ? Integer.toString(entry.getValue().count) : null))
+                .collect(Collectors.joining(", "));
+        if (!includeTotal) {
+            return header;
+        }
+        String total = metric("total", elapsedNanos(), null);
+        return header.isEmpty() ? total : header + ", " + total;
+    }
+
+    /**
+     * Renders the phases as {@code key=value} pairs for the structured request log.
+     */
+    String toLogFields() {
+        return phases.entrySet().stream()
+                .map(entry -> entry.getKey() + "Ms=" + millis(entry.getValue().nanos)
+                        + " " + entry.getKey() + "Count=" + entry.getValue().count)
+                .collect(Collectors.joining(" "));
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static String metric(String name, long nanos, String description) {
+        String metric = name + ";dur=" + millis(nanos);
+        return description == null ? metric : metric + ";desc=\"" + description + "\"";
+    }
+
+    @FunctionalInterface
+    public interface Phase extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Entry {
+        private long nanos;
+        private int count;
+
+        void add(long elapsed) {
+            nanos += elapsed;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.arcitech.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Opens a {@link RequestTimings} collector for each API request and reports it in a
+ * {@code Server-Timing} header. Jackson bodies (JSON, Smile, CBOR) are buffered until the chain
+ * returns so the header also covers serialization; other bodies (CSV and file downloads) stream as
+ * before and get the header just before the response commits, without a serialize phase. Async
+ * requests are never buffered past the initial dispatch.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    // Everything the Jackson converters negotiate; see MessageEncodingConfig
+    private static final List<MediaType> BUFFERED_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            new MediaType("application", "*+json"),
+            new MediaType("application", "x-jackson-smile"),
+            MediaType.APPLICATION_CBOR);
+
+    private final boolean enabled;
+    private final double logSampleRate;
+
+    public ServerTimingFilter(@Value("${app.server-timing.enabled:true}") boolean enabled,
+                              @Value("${app.server-timing.log-sample-rate:0.05}") double logSampleRate) {
+        this.enabled = enabled;
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        TimingResponse timingResponse = new TimingResponse(request, response, timings);
+        try {
+            filterChain.doFilter(request, timingResponse);
+            timingResponse.finish();
+        } finally {
+            timingResponse.writeHeader();
+            RequestTimings.clear();
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                log.info("request method={} uri={} status={} totalMs={} {}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        RequestTimings.millis(timings.elapsedNanos()),
+                        timings.toLogFields());
+            }
+        }
+    }
+
+    /**
+     * Holds back Jackson bodies until {@link #finish()}; for anything else, adds the header the first
+     * time something could commit the response.
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final RequestTimings timings;
+        private boolean headerWritten;
+        private BufferedBody bufferedBody;
+
+        TimingResponse(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.request = request;
+            this.timings = timings;
+        }
+
+        void writeHeader() {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+            if (!isCommitted()) {
+                addHeader(HEADER, timings.toHeader(true));
+            }
+        }
+
+        /**
+         * Adds the header and writes out the buffered body, if any. When the request went async the
+         * body is not complete yet, so what is held is sent and later writes go straight through.
+         */
+        void finish() throws IOException {
+            if (bufferedBody != null) {
+                if (!request.isAsyncStarted() && bufferedBody.isHolding() && !isCommitted()) {
+                    setContentLength(bufferedBody.heldSize());
+                }
+                bufferedBody.passThrough();
+            }
+            writeHeader();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (bufferedBody != null) {
+                return bufferedBody;
+            }
+            if (!headerWritten && !isCommitted() && !request.isAsyncStarted() && isBuffered()) {
+                bufferedBody = new BufferedBody();
+                return bufferedBody;
+            }
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (bufferedBody != null && bufferedBody.isHolding()) {
+                // Converters flush after writing; the buffered body is sent by finish()
+                return;
+            }
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (bufferedBody != null) {
+                bufferedBody.clear();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (bufferedBody != null) {
+                bufferedBody.clear();
+            }
+            super.reset();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            discardBuffer();
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            discardBuffer();
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            discardBuffer();
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        private void discardBuffer() {
+            if (bufferedBody != null) {
+                bufferedBody.discard();
+            }
+        }
+
+        private boolean isBuffered() {
+            String contentType = getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            try {
+                MediaType type = MediaType.parseMediaType(contentType);
+                return BUFFERED_TYPES.stream().anyMatch(buffered -> buffered.includes(type));
+            } catch (InvalidMediaTypeException ex) {
+                return false;
+            }
+        }
+
+        /**
+         * Collects the body in memory until {@link #passThrough()}, after which writes go to the
+         * real stream. A write listener (non-blocking output) switches to pass-through at once.
+         */
+        private final class BufferedBody extends ServletOutputStream {
+
+            private FastByteArrayOutputStream held = new FastByteArrayOutputStream();
+            private ServletOutputStream direct;
+
+            boolean isHolding() {
+                return direct == null && held != null;
+            }
+
+            int heldSize() {
+                return held.size();
+            }
+
+            void clear() {
+                if (held != null) {
+                    held.reset();
+                }
+            }
+
+            void discard() {
+                held = null;
+            }
+
+            void passThrough() throws IOException {
+                if (!isHolding()) {
+                    return;
+                }
+                writeHeader();
+                direct = TimingResponse.super.getOutputStream();
+                held.writeTo(direct);
+                held = null;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                if (direct != null) {
+                    direct.write(b);
+                } else if (held != null) {
+                    held.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (direct != null) {
+                    direct.write(b, off, len);
+                } else if (held != null) {
+                    held.write(b, off, len);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (direct != null) {
+                    direct.flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return direct == null || direct.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                try {
+                    passThrough();
+                    if (direct == null) {
+                        writeHeader();
+                        direct = TimingResponse.super.getOutputStream();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                direct.setWriteListener(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.arcitech.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a datasource-proxy so every statement is timed at the
+ * JDBC level, replacing Hibernate's {@code show-sql} console output.
+ */
+@Configuration
+public class SqlObservabilityConfig {
+
+    @Bean
+    static BeanPostProcessor sqlObservationDataSourcePostProcessor(ObjectProvider<SqlStatementRegistry> registry,
+                                                                   Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlObservationListener listener = new SqlObservationListener(
+                        registry.getObject(),
+                        environment.getProperty("app.sql.slow-query-threshold-ms", Long.class, 200L),
+                        environment.getProperty("app.sql.sample-rate", Double.class, 0.01),
+                        environment.getProperty("app.sql.log-parameters", Boolean.class, false));
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.arcitech.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Times every JDBC execution. All statements feed the {@link SqlStatementRegistry}; statements over
+ * the slow threshold are logged with the endpoint that issued them, and a small random sample of the
+ * rest is logged so normal traffic stays visible without flooding the log. Bind parameters are only
+ * logged when enabled, and then text values are masked down to their length because they carry
+ * emails, phone numbers and password hashes; numbers, booleans and dates are shown as they are.
+ * Query time is also reported to the current {@link RequestTimings} as the {@code db} phase.
+ */
+@Slf4j
+class SqlObservationListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "arcitech.startedAt";
+
+    private final SqlStatementRegistry registry;
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final boolean logParameters;
+
+    SqlObservationListener(SqlStatementRegistry registry,
+                           long slowThresholdMillis,
+                           double sampleRate,
+                           boolean logParameters) {
+        this.registry = registry;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRate = sampleRate;
+        this.logParameters = logParameters;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestTimings.active()) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt != null) {
+            RequestTimings.record("db", System.nanoTime() - startedAt);
+        }
+        long elapsed = execInfo.getElapsedTime();
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .distinct()
+                .collect(Collectors.joining("; "));
+        registry.record(sql, elapsed);
+
+        if (elapsed >= slowThresholdMillis) {
+            log.warn("Slow SQL {} ms [{}]{} endpoint={} sql={}{}",
+                    elapsed,
+                    execInfo.isSuccess() ? "ok" : "failed",
+                    execInfo.isBatch() ? " batch=" + execInfo.getBatchSize() : "",
+                    currentEndpoint(),
+                    sql,
+                    logParameters ? " params=" + parameters(queryInfoList) : "");
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Sampled SQL {} ms endpoint={} sql={}", elapsed, currentEndpoint(), sql);
+        }
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return "thread:" + Thread.currentThread().getName();
+    }
+
+    private static String parameters(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .map(SqlObservationListener::formatParameterSet)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatParameterSet(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(op -> op.getArgs().length > 1 ? mask(op.getArgs()[1]) : "null")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String mask(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof TemporalAccessor || value instanceof Date) {
+            return String.valueOf(value);
+        }
+        if (value instanceof CharSequence text) {
+            return "<text:" + text.length() + ">";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+}
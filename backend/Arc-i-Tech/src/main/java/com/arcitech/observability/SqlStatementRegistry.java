@@ -0,0 +1,68 @@
+package com.arcitech.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement execution counters keyed by the parameterised SQL text. The number of tracked
+ * statements is capped so ad-hoc SQL with inlined literals cannot grow the map without bound;
+ * anything past the cap is folded into a single overflow entry.
+ */
+@Component
+public class SqlStatementRegistry {
+
+    static final String OVERFLOW_KEY = "<other statements>";
+
+    private final int maxTrackedStatements;
+    private final Map<String, Counters> statements = new ConcurrentHashMap<>();
+
+    public SqlStatementRegistry(@Value("${app.sql.max-tracked-statements:2000}") int maxTrackedStatements) {
+        this.maxTrackedStatements = maxTrackedStatements;
+    }
+
+    public void record(String sql, long elapsedMillis) {
+        Counters counters = statements.get(sql);
+        if (counters == null) {
+            String key = statements.size() < maxTrackedStatements ? sql : OVERFLOW_KEY;
+            counters = statements.computeIfAbsent(key, k -> new Counters());
+        }
+        counters.add(elapsedMillis);
+    }
+
+    public List<SqlStatementStats> top(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(SqlStatementStats::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        void add(long elapsedMillis) {
+            executions.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulate(elapsedMillis);
+        }
+
+        SqlStatementStats snapshot(String sql) {
+            long count = executions.sum();
+            long total = totalMillis.sum();
+            return new SqlStatementStats(sql, count, total, maxMillis.get(), count == 0 ? 0 : (double) total / count);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.arcitech.observability;
+
+/**
+ * Aggregate timings for one SQL statement shape since startup or the last reset.
+ */
+public record SqlStatementStats(
+        String sql,
+        long executions,
+        long totalMillis,
+        long maxMillis,
+        double averageMillis
+) {
+}
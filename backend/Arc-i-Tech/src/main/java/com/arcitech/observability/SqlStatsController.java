@@ -0,0 +1,37 @@
+package com.arcitech.observability;
+
+import com.arcitech.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/super-admin/sql")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class SqlStatsController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final SqlStatementRegistry registry;
+
+    @GetMapping("/top")
+    public ApiResponse<List<SqlStatementStats>> top(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return ApiResponse.success(registry.top(limit));
+    }
+
+    @DeleteMapping
+    public ApiResponse<Void> reset() {
+        registry.reset();
+        return ApiResponse.success("SQL statistics reset", null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.arcitech.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that records serialization time as the {@code serialize} phase. Registered as the
+ * application's {@link MappingJackson2HttpMessageConverter}, which replaces Boot's default one.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (RequestTimings.Phase ignored = RequestTimings.phase("serialize")) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.arcitech.programs;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.BulkActionResult;
+import com.arcitech.programs.dto.BulkDecideProductAccessRequest;
 import com.arcitech.programs.dto.DecideProductAccessRequest;
 import com.arcitech.programs.dto.ProductAccessRequestDto;
 import com.arcitech.user.User;
@@ -31,6 +33,14 @@ public class ProductAccessAdminController {
         return ResponseEntity.ok(service.getPendingRequests());
     }
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkActionResult>> decideAll(
+            @AuthenticationPrincipal User actor,
+            @RequestBody @Valid BulkDecideProductAccessRequest payload
+    ) {
+        return ResponseEntity.ok(service.decideAll(actor.getId(), payload));
+    }
+
     @PatchMapping("/{requestId}")
     public ResponseEntity<ApiResponse<ProductAccessRequestDto>> decide(
             @PathVariable long requestId,
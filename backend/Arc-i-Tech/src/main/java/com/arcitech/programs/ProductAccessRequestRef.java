@@ -0,0 +1,9 @@
+package com.arcitech.programs;
+
+public record ProductAccessRequestRef(
+        Long id,
+        Long userId,
+        DashboardProductKey productKey,
+        ProductAccessStatus status
+) {
+}
@@ -1,8 +1,15 @@
 package com.arcitech.programs;
 
 import com.arcitech.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +17,44 @@ public interface ProductAccessRequestRepository extends JpaRepository<ProductAcc
 
     List<ProductAccessRequest> findByUserOrderBySubmittedAtDesc(User user);
 
+    @EntityGraph(attributePaths = {"user", "decidedBy"})
+    List<ProductAccessRequest> findByUserIdOrderBySubmittedAtDesc(Long userId);
+
     List<ProductAccessRequest> findByStatusOrderBySubmittedAtAsc(ProductAccessStatus status);
 
     Optional<ProductAccessRequest> findTopByUserAndProductKeyOrderBySubmittedAtDesc(User user, DashboardProductKey productKey);
+
+    @Query("select r.productKey, r.status, count(r) from ProductAccessRequest r group by r.productKey, r.status")
+    List<Object[]> countByProductAndStatus();
+
+    @Query("""
+            select new com.arcitech.programs.ProductAccessRequestRef(r.id, r.user.id, r.productKey, r.status)
+            from ProductAccessRequest r
+            where r.id in :ids
+            """)
+    List<ProductAccessRequestRef> findRefsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select r.id from ProductAccessRequest r
+            where r.status = com.arcitech.programs.ProductAccessStatus.PENDING
+              and (:productKey is null or r.productKey = :productKey)
+            order by r.submittedAt asc
+            """)
+    List<Long> findPendingIds(@Param("productKey") DashboardProductKey productKey, Pageable pageable);
+
+    @Query(value = "select id from product_access_requests where id in (:ids) and status = 'PENDING' for update",
+            nativeQuery = true)
+    List<Long> lockPendingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ProductAccessRequest r
+            set r.status = :status, r.note = :note, r.decidedAt = :decidedAt, r.decidedBy = :actor
+            where r.id in :ids and r.status = com.arcitech.programs.ProductAccessStatus.PENDING
+            """)
+    int decidePending(@Param("ids") Collection<Long> ids,
+                      @Param("status") ProductAccessStatus status,
+                      @Param("note") String note,
+                      @Param("decidedAt") OffsetDateTime decidedAt,
+                      @Param("actor") User actor);
 }
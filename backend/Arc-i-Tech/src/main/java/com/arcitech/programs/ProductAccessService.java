@@ -1,17 +1,36 @@
 package com.arcitech.programs;
 
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.BulkActionResult;
+import com.arcitech.datasource.PrimaryReads;
+import com.arcitech.programs.dto.BulkDecideProductAccessRequest;
 import com.arcitech.programs.dto.CreateProductAccessRequest;
 import com.arcitech.programs.dto.DecideProductAccessRequest;
 import com.arcitech.programs.dto.ProductAccessRequestDto;
+import com.arcitech.user.NotificationService;
+import com.arcitech.user.NotificationType;
 import com.arcitech.user.User;
+import com.arcitech.user.UserNotification;
 import com.arcitech.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.arcitech.programs.ProductAccessMapper.toDto;
 
@@ -21,43 +40,48 @@ public class ProductAccessService {
 
     private final ProductAccessRequestRepository requestRepository;
     private final UserRepository userRepository;
+    private final ProductEntitlementCache entitlementCache;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLog auditLog;
+
+    @Value("${app.programs.bulk.max-items:5000}")
+    private int bulkMaxItems;
 
     @Transactional(readOnly = true)
     public ApiResponse<List<ProductAccessRequestDto>> getRequestsForUser(long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        List<ProductAccessRequestDto> payload = requestRepository
-                .findByUserOrderBySubmittedAtDesc(user)
-                .stream()
-                .map(ProductAccessMapper::toDto)
-                .toList();
-        return ApiResponse.success(payload);
+        return ApiResponse.success(entitlements(userId).history());
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<Map<DashboardProductKey, ProductAccessRequestDto>> entitlementsForUser(long userId) {
+        return ApiResponse.success(entitlements(userId).latest());
     }
 
     @Transactional
     public ApiResponse<ProductAccessRequestDto> createRequest(long userId, CreateProductAccessRequest payload) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        ProductAccessRequest existing = requestRepository
-                .findTopByUserAndProductKeyOrderBySubmittedAtDesc(user, payload.productKey())
-                .orElse(null);
+        ProductAccessRequestDto existing = entitlements(userId).latestFor(payload.productKey());
         if (existing != null) {
-            if (existing.getStatus() == ProductAccessStatus.PENDING) {
-                return ApiResponse.success("Request already pending", toDto(existing));
+            if (existing.status() == ProductAccessStatus.PENDING) {
+                return ApiResponse.success("Request already pending", existing);
             }
-            if (existing.getStatus() == ProductAccessStatus.APPROVED) {
-                return ApiResponse.success("Access already granted", toDto(existing));
+            if (existing.status() == ProductAccessStatus.APPROVED) {
+                return ApiResponse.success("Access already granted", existing);
             }
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
         ProductAccessRequest entity = ProductAccessRequest.builder()
                 .user(user)
                 .productKey(payload.productKey())
                 .status(ProductAccessStatus.PENDING)
                 .build();
-        ProductAccessRequest saved = requestRepository.save(entity);
-        return ApiResponse.success("Request submitted", toDto(saved));
+        ProductAccessRequestDto saved = toDto(requestRepository.save(entity));
+        entitlementCache.writeThrough(saved);
+        eventPublisher.publishEvent(new ProductAccessStatusChangedEvent(
+                saved.productKey(), null, ProductAccessStatus.PENDING, 1));
+        return ApiResponse.success("Request submitted", saved);
     }
 
     @Transactional(readOnly = true)
@@ -79,22 +103,97 @@ public class ProductAccessService {
         User actor = userRepository.findById(actorId)
                 .orElseThrow(() -> new EntityNotFoundException("Actor not found"));
 
+        ProductAccessStatus previousStatus = request.getStatus();
         request.setStatus(payload.status());
         request.setNote(payload.note());
         request.setDecidedAt(java.time.OffsetDateTime.now());
         request.setDecidedBy(actor);
 
-        return ApiResponse.success("Request updated", toDto(request));
+        ProductAccessRequestDto updated = toDto(request);
+        entitlementCache.writeThrough(updated);
+        if (previousStatus != payload.status()) {
+            eventPublisher.publishEvent(new ProductAccessStatusChangedEvent(
+                    request.getProductKey(), previousStatus, payload.status(), 1));
+        }
+        auditLog.record(actor, AuditAction.ACCESS_DECIDED, AuditTargetType.ACCESS_REQUEST, requestId,
+                request.getProductKey() + " " + previousStatus + " -> " + payload.status());
+        return ApiResponse.success("Request updated", updated);
+    }
+
+    /**
+     * Decides many pending requests with a single UPDATE. Requests are selected either by id or,
+     * when no ids are given, as the oldest pending requests (optionally for one product).
+     */
+    @Transactional
+    public ApiResponse<BulkActionResult> decideAll(long actorId, BulkDecideProductAccessRequest payload) {
+        if (payload.status() == ProductAccessStatus.PENDING) {
+            throw new IllegalArgumentException("Bulk decisions must approve or reject");
+        }
+        Set<Long> requestedIds = selectIds(payload);
+        if (requestedIds.isEmpty()) {
+            return ApiResponse.success("No requests to update", BulkActionResult.of(requestedIds, Set.of(), Set.of()));
+        }
+
+        User actor = userRepository.findById(actorId)
+                .orElseThrow(() -> new EntityNotFoundException("Actor not found"));
+        List<ProductAccessRequestRef> refs = requestRepository.findRefsByIdIn(requestedIds);
+        // Row locks make the locked set exactly the set the update below changes.
+        Set<Long> updatedIds = new HashSet<>(requestRepository.lockPendingIds(requestedIds));
+        if (!updatedIds.isEmpty()) {
+            requestRepository.decidePending(updatedIds, payload.status(), payload.note(),
+                    OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS), actor);
+        }
+
+        List<ProductAccessRequestRef> decided = refs.stream()
+                .filter(ref -> updatedIds.contains(ref.id()))
+                .toList();
+        decided.forEach(ref -> entitlementCache.evict(ref.userId()));
+        decided.stream()
+                .collect(Collectors.groupingBy(ProductAccessRequestRef::productKey, Collectors.counting()))
+                .forEach((productKey, count) -> eventPublisher.publishEvent(new ProductAccessStatusChangedEvent(
+                        productKey, ProductAccessStatus.PENDING, payload.status(), count.intValue())));
+        notificationService.notifyBatch(decided.stream()
+                .map(ref -> decisionNotification(ref, payload.status()))
+                .toList());
+        decided.forEach(ref -> auditLog.record(actor, AuditAction.ACCESS_DECIDED, AuditTargetType.ACCESS_REQUEST,
+                ref.id(), ref.productKey() + " PENDING -> " + payload.status() + " (bulk)"));
+
+        Set<Long> existingIds = refs.stream().map(ProductAccessRequestRef::id).collect(Collectors.toSet());
+        return ApiResponse.success("Requests updated", BulkActionResult.of(requestedIds, existingIds, updatedIds));
     }
 
     @Transactional(readOnly = true)
     public ApiResponse<ProductAccessRequestDto> latestDecisionForUser(long userId, DashboardProductKey productKey) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        return requestRepository
-                .findTopByUserAndProductKeyOrderBySubmittedAtDesc(user, productKey)
+        return ApiResponse.success(entitlements(userId).latestFor(productKey));
+    }
+
+    private Set<Long> selectIds(BulkDecideProductAccessRequest payload) {
+        if (payload.requestIds() == null || payload.requestIds().isEmpty()) {
+            return new LinkedHashSet<>(requestRepository.findPendingIds(payload.productKey(), PageRequest.of(0, bulkMaxItems)));
+        }
+        if (payload.requestIds().size() > bulkMaxItems) {
+            throw new IllegalArgumentException("At most " + bulkMaxItems + " requests can be decided at once");
+        }
+        return new LinkedHashSet<>(payload.requestIds());
+    }
+
+    private UserNotification decisionNotification(ProductAccessRequestRef ref, ProductAccessStatus status) {
+        String product = ref.productKey().name().replace('_', ' ').toLowerCase();
+        String outcome = status == ProductAccessStatus.APPROVED ? "approved" : "rejected";
+        return UserNotification.builder()
+                .recipient(userRepository.getReferenceById(ref.userId()))
+                .type(NotificationType.ACCESS_DECISION)
+                .title("Access request " + outcome)
+                .message("Your " + product + " access request has been " + outcome + ".")
+                .build();
+    }
+
+    // Loaded rows stay cached until the next decision, so they come from the primary, never a lagging replica
+    private ProductEntitlementCache.UserEntitlements entitlements(long userId) {
+        return entitlementCache.get(userId, () -> PrimaryReads.call(() -> requestRepository
+                .findByUserIdOrderBySubmittedAtDesc(userId)
+                .stream()
                 .map(ProductAccessMapper::toDto)
-                .map(ApiResponse::success)
-                .orElseGet(() -> ApiResponse.success(null));
+                .toList()));
     }
 }
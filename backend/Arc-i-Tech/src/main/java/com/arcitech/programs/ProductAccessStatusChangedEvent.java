@@ -0,0 +1,13 @@
+package com.arcitech.programs;
+
+/**
+ * Published when access requests for a product are submitted ({@code previous} is null) or decided;
+ * {@code count} covers bulk decisions.
+ */
+public record ProductAccessStatusChangedEvent(
+        DashboardProductKey productKey,
+        ProductAccessStatus previous,
+        ProductAccessStatus current,
+        int count
+) {
+}
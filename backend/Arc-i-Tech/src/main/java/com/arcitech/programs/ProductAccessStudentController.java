@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/dashboard/access")
@@ -32,6 +33,13 @@ public class ProductAccessStudentController {
         return ResponseEntity.ok(service.getRequestsForUser(user.getId()));
     }
 
+    @GetMapping("/entitlements")
+    public ResponseEntity<ApiResponse<Map<DashboardProductKey, ProductAccessRequestDto>>> myEntitlements(
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(service.entitlementsForUser(user.getId()));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<ProductAccessRequestDto>> requestAccess(
             @AuthenticationPrincipal User user,
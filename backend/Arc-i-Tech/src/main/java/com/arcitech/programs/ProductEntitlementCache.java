@@ -0,0 +1,120 @@
+package com.arcitech.programs;
+
+import com.arcitech.common.AfterCommit;
+import com.arcitech.programs.dto.ProductAccessRequestDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory view of each customer's product access requests, keyed by user and
+ * {@link DashboardProductKey}. Entries are loaded once per user and then kept current
+ * write-through by {@link ProductAccessService}, so dashboard access checks do not hit the database.
+ * Entries expire after a TTL and the least recently used users are evicted once the cache is full.
+ *
+ * <p>Every write bumps {@link #generation} inside the per-user {@code compute}, and a loader only
+ * stores its rows from inside {@code compute} on the same key when no write happened since it
+ * started loading; so a decision that commits mid-load is either applied to the stored entry or
+ * keeps the stale rows out of the cache.
+ */
+@Component
+public class ProductEntitlementCache {
+
+    private final ConcurrentMap<Long, UserEntitlements> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductEntitlementCache(@Value("${app.programs.entitlement-cache.max-users:10000}") int maxUsers,
+                                   @Value("${app.programs.entitlement-cache.ttl-seconds:300}") long ttlSeconds) {
+        Cache<Long, UserEntitlements> cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.entries = cache.asMap();
+    }
+
+    public UserEntitlements get(long userId, Supplier<List<ProductAccessRequestDto>> loader) {
+        UserEntitlements cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = generation.get();
+        UserEntitlements loaded = UserEntitlements.of(loader.get());
+        UserEntitlements stored = entries.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return generation.get() == stamp ? loaded : null;
+        });
+        return stored != null ? stored : loaded;
+    }
+
+    /**
+     * Applies the request state once the surrounding transaction commits, or immediately
+     * when called outside a transaction.
+     */
+    public void writeThrough(ProductAccessRequestDto request) {
+        AfterCommit.run(() -> entries.compute(request.userId(), (id, current) -> {
+            generation.incrementAndGet();
+            return current != null ? current.with(request) : null;
+        }));
+    }
+
+    public void evict(long userId) {
+        AfterCommit.run(() -> entries.compute(userId, (id, current) -> {
+            generation.incrementAndGet();
+            return null;
+        }));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Immutable snapshot of a user's requests, newest first, with the latest request per product.
+     */
+    public record UserEntitlements(
+            List<ProductAccessRequestDto> history,
+            Map<DashboardProductKey, ProductAccessRequestDto> latest
+    ) {
+
+        static UserEntitlements of(List<ProductAccessRequestDto> newestFirst) {
+            Map<DashboardProductKey, ProductAccessRequestDto> latest = new EnumMap<>(DashboardProductKey.class);
+            newestFirst.forEach(request -> latest.putIfAbsent(request.productKey(), request));
+            return new UserEntitlements(List.copyOf(newestFirst), Collections.unmodifiableMap(latest));
+        }
+
+        UserEntitlements with(ProductAccessRequestDto request) {
+            List<ProductAccessRequestDto> updated = new ArrayList<>(history.size() + 1);
+            boolean replaced = false;
+            for (ProductAccessRequestDto existing : history) {
+                if (existing.id().equals(request.id())) {
+                    updated.add(request);
+                    replaced = true;
+                } else {
+                    updated.add(existing);
+                }
+            }
+            if (!replaced) {
+                updated.add(0, request);
+            }
+            return of(updated);
+        }
+
+        public ProductAccessRequestDto latestFor(DashboardProductKey productKey) {
+            return latest.get(productKey);
+        }
+    }
+}
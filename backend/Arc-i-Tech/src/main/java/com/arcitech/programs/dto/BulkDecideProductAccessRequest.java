@@ -0,0 +1,16 @@
+package com.arcitech.programs.dto;
+
+import com.arcitech.programs.DashboardProductKey;
+import com.arcitech.programs.ProductAccessStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkDecideProductAccessRequest(
+        List<Long> requestIds,
+        DashboardProductKey productKey,
+        @NotNull ProductAccessStatus status,
+        @Size(max = 500) String note
+) {
+}
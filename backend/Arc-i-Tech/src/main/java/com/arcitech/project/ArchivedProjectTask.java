@@ -0,0 +1,61 @@
+package com.arcitech.project;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Cold copy of a task from an archived project, moved out of {@code project_tasks} by
+ * {@link ProjectArchiveService}. Keeps the original id so a restore puts the row back unchanged.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_tasks_archive", indexes = {
+        @Index(name = "idx_task_archive_project", columnList = "project_id")
+})
+public class ArchivedProjectTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(nullable = false, length = 160)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 25)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 25)
+    private TaskPriority priority;
+
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
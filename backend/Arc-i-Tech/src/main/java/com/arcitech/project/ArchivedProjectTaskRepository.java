@@ -0,0 +1,26 @@
+package com.arcitech.project;
+
+import com.arcitech.common.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArchivedProjectTaskRepository extends JpaRepository<ArchivedProjectTask, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ArchivedProjectTask> findByProjectId(Long projectId);
+
+    @Query("""
+            select new com.arcitech.common.ResourceVersion(count(t), max(t.updatedAt), max(a.updatedAt), max(p.updatedAt))
+            from Project p
+            left join ArchivedProjectTask t on t.projectId = p.id
+            left join User a on a.id = t.assigneeId
+            where p.id = :projectId
+            """)
+    ResourceVersion versionForProject(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,51 @@
+package com.arcitech.project;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cold copy of a timeline event from an archived project, moved out of
+ * {@code project_timeline_events} by {@link ProjectArchiveService}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_timeline_events_archive", indexes = {
+        @Index(name = "idx_timeline_archive_project_occurred", columnList = "project_id, occurred_at")
+})
+public class ArchivedTimelineEvent {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private TimelineEventType eventType;
+
+    @Column(nullable = false, length = 160)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(nullable = false)
+    private OffsetDateTime occurredAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,14 @@
+package com.arcitech.project;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface ArchivedTimelineEventRepository extends JpaRepository<ArchivedTimelineEvent, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ArchivedTimelineEvent> findByProjectIdOrderByOccurredAtDesc(Long projectId);
+}
@@ -7,9 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -17,7 +20,10 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_archived_updated", columnList = "archived, updated_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
 
     @Id
@@ -40,6 +46,27 @@ public class Project {
     @Column(nullable = false)
     private int progressPercentage;
 
+    /**
+     * When set, {@link #progressPercentage} follows the share of tasks that are done.
+     */
+    @Column(nullable = false)
+    private boolean autoProgress;
+
+    @Column(nullable = false)
+    private int todoTaskCount;
+
+    @Column(nullable = false)
+    private int inProgressTaskCount;
+
+    @Column(nullable = false)
+    private int reviewTaskCount;
+
+    @Column(nullable = false)
+    private int blockedTaskCount;
+
+    @Column(nullable = false)
+    private int doneTaskCount;
+
     private LocalDate startDate;
 
     private LocalDate targetDate;
@@ -47,6 +74,14 @@ public class Project {
     @Column(nullable = false)
     private boolean highlighted;
 
+    /**
+     * Set once the tasks and timeline have moved to the archive tables; see {@link ProjectArchiveService}.
+     */
+    @Column(nullable = false)
+    private boolean archived;
+
+    private OffsetDateTime archivedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id")
     private User client;
@@ -57,6 +92,37 @@ public class Project {
     @Column(nullable = false)
     private OffsetDateTime updatedAt;
 
+    public ProjectTaskCounts taskCounts() {
+        return new ProjectTaskCounts(todoTaskCount, inProgressTaskCount, reviewTaskCount, blockedTaskCount, doneTaskCount);
+    }
+
+    public void adjustTaskCount(TaskStatus status, int delta) {
+        switch (status) {
+            case TODO -> todoTaskCount = Math.max(0, todoTaskCount + delta);
+            case IN_PROGRESS -> inProgressTaskCount = Math.max(0, inProgressTaskCount + delta);
+            case REVIEW -> reviewTaskCount = Math.max(0, reviewTaskCount + delta);
+            case BLOCKED -> blockedTaskCount = Math.max(0, blockedTaskCount + delta);
+            case DONE -> doneTaskCount = Math.max(0, doneTaskCount + delta);
+        }
+    }
+
+    public void applyTaskCounts(Map<TaskStatus, Integer> counts) {
+        todoTaskCount = counts.getOrDefault(TaskStatus.TODO, 0);
+        inProgressTaskCount = counts.getOrDefault(TaskStatus.IN_PROGRESS, 0);
+        reviewTaskCount = counts.getOrDefault(TaskStatus.REVIEW, 0);
+        blockedTaskCount = counts.getOrDefault(TaskStatus.BLOCKED, 0);
+        doneTaskCount = counts.getOrDefault(TaskStatus.DONE, 0);
+    }
+
+    /**
+     * Re-derives {@link #progressPercentage} from the counters when auto progress is on.
+     */
+    public void syncProgress() {
+        if (autoProgress) {
+            progressPercentage = taskCounts().progress(progressPercentage);
+        }
+    }
+
     @PrePersist
     void onCreate() {
         this.createdAt = OffsetDateTime.now();
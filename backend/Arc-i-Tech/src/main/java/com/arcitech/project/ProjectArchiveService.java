@@ -0,0 +1,241 @@
+package com.arcitech.project;
+
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchIndex;
+import com.arcitech.sync.ChangeEntityType;
+import com.arcitech.sync.ChangeLogRecorder;
+import com.arcitech.sync.ChangeOperation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the tasks and timeline of delivered projects into cold archive tables so the hot tables only
+ * hold active work. The project row stays in place with {@link Project#isArchived()} set and its task
+ * counters untouched; boards and timelines of archived projects are read from the archive tables.
+ * Deployed projects nobody has touched for a while are archived on a schedule.
+ *
+ * <p>As with the retention job, archiving is not a delete: tasks stay readable, so no task tombstones
+ * go to the change log. Notifications that linked to a moved task lose the link and are logged as updated.
+ * Task analytics only count live tasks, so the moved tasks are reported in a {@link ProjectTasksArchivedEvent}.
+ */
+@Slf4j
+@Service
+public class ProjectArchiveService {
+
+    private static final String SELECT_TASK_NOTIFICATIONS = """
+            select n.id, n.recipient_id from user_notifications n
+            join project_tasks t on t.id = n.task_id
+            where t.project_id = :projectId
+            """;
+    private static final String UNLINK_TASK_NOTIFICATIONS = """
+            update user_notifications set task_id = null
+            where task_id in (select id from project_tasks where project_id = :projectId)
+            """;
+    private static final String ARCHIVE_TASKS = """
+            insert into project_tasks_archive
+                (id, project_id, assignee_id, title, description, status, priority, due_date, created_at, updated_at, archived_at)
+            select id, project_id, assignee_id, title, description, status, priority, due_date, created_at, updated_at, :archivedAt
+            from project_tasks where project_id = :projectId
+            """;
+    private static final String DELETE_TASKS = "delete from project_tasks where project_id = :projectId";
+    private static final String COUNT_TASKS = """
+            select assignee_id, status, count(*) as total from project_tasks
+            where project_id = :projectId
+            group by assignee_id, status
+            """;
+    private static final String ARCHIVE_EVENTS = """
+            insert into project_timeline_events_archive
+                (id, project_id, actor_id, event_type, title, description, occurred_at, archived_at)
+            select id, project_id, actor_id, event_type, title, description, occurred_at, :archivedAt
+            from project_timeline_events where project_id = :projectId
+            """;
+    private static final String DELETE_EVENTS = "delete from project_timeline_events where project_id = :projectId";
+
+    // Users removed while the project was archived come back as unassigned rather than failing the foreign key
+    private static final String RESTORE_TASKS = """
+            insert into project_tasks
+                (id, project_id, assignee_id, title, description, status, priority, due_date, created_at, updated_at)
+            select a.id, a.project_id, u.id, a.title, a.description, a.status, a.priority, a.due_date, a.created_at, a.updated_at
+            from project_tasks_archive a left join users u on u.id = a.assignee_id
+            where a.project_id = :projectId
+            """;
+    private static final String DELETE_ARCHIVED_TASKS = "delete from project_tasks_archive where project_id = :projectId";
+    private static final String RESTORE_EVENTS = """
+            insert into project_timeline_events
+                (id, project_id, actor_id, event_type, title, description, occurred_at)
+            select a.id, a.project_id, u.id, a.event_type, a.title, a.description, a.occurred_at
+            from project_timeline_events_archive a left join users u on u.id = a.actor_id
+            where a.project_id = :projectId
+            """;
+    private static final String DELETE_ARCHIVED_EVENTS = "delete from project_timeline_events_archive where project_id = :projectId";
+
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final ChangeLogRecorder changeLogRecorder;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLog auditLog;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean autoArchiveEnabled;
+    private final Duration autoArchiveAge;
+    private final int maxProjectsPerRun;
+
+    public ProjectArchiveService(ProjectRepository projectRepository,
+                                 EntityManager entityManager,
+                                 ChangeLogRecorder changeLogRecorder,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 AuditLog auditLog,
+                                 SearchIndex searchIndex,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.projects.archive.enabled:true}") boolean autoArchiveEnabled,
+                                 @Value("${app.projects.archive.after-days:30}") long afterDays,
+                                 @Value("${app.projects.archive.max-projects-per-run:20}") int maxProjectsPerRun) {
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.changeLogRecorder = changeLogRecorder;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditLog = auditLog;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.autoArchiveEnabled = autoArchiveEnabled;
+        this.autoArchiveAge = Duration.ofDays(afterDays);
+        this.maxProjectsPerRun = maxProjectsPerRun;
+    }
+
+    public ProjectResponse archive(Long projectId) {
+        return transactionTemplate.execute(status -> ProjectResponse.from(moveToArchive(projectId)));
+    }
+
+    public ProjectResponse restore(Long projectId) {
+        return transactionTemplate.execute(status -> ProjectResponse.from(moveFromArchive(projectId)));
+    }
+
+    /**
+     * Archives deployed projects whose last update is older than the configured age. Any edit,
+     * including a restore, starts the clock again.
+     */
+    @Scheduled(initialDelayString = "${app.projects.archive.initial-delay-ms:600000}",
+            fixedDelayString = "${app.projects.archive.interval-ms:3600000}")
+    public void archiveDelivered() {
+        if (!autoArchiveEnabled) {
+            return;
+        }
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(autoArchiveAge);
+        List<Long> candidates = projectRepository.findArchiveCandidateIds(cutoff, PageRequest.of(0, maxProjectsPerRun));
+        int archived = 0;
+        for (Long projectId : candidates) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> moveToArchive(projectId));
+                archived++;
+            } catch (RuntimeException ex) {
+                // The project may have been edited since it was selected; the next run re-checks it
+                log.warn("Could not archive project {}", projectId, ex);
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} delivered projects", archived);
+        }
+    }
+
+    private Project moveToArchive(Long projectId) {
+        // Task writes lock the project row first, so holding it keeps new tasks out while rows move
+        Project project = lock(projectId);
+        if (project.isArchived()) {
+            throw new IllegalStateException("Project is already archived");
+        }
+        if (project.getStatus() != ProjectStatus.DEPLOYED) {
+            throw new IllegalStateException("Only deployed projects can be archived");
+        }
+
+        OffsetDateTime archivedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("archivedAt", Timestamp.from(archivedAt.toInstant()));
+        List<Map<String, Object>> unlinked = jdbcTemplate.queryForList(SELECT_TASK_NOTIFICATIONS, params);
+        jdbcTemplate.update(UNLINK_TASK_NOTIFICATIONS, params);
+        List<ProjectTasksArchivedEvent.TaskCount> moved = countTasks(params);
+        int tasks = jdbcTemplate.update(ARCHIVE_TASKS, params);
+        jdbcTemplate.update(DELETE_TASKS, params);
+        jdbcTemplate.update(ARCHIVE_EVENTS, params);
+        jdbcTemplate.update(DELETE_EVENTS, params);
+
+        // The notification rows changed outside Hibernate, so the delta-sync feed has to be told explicitly
+        List<ChangeLogRecorder.Change> changes = unlinked.stream()
+                .map(row -> new ChangeLogRecorder.Change(ChangeEntityType.NOTIFICATION,
+                        ((Number) row.get("id")).longValue(), ChangeOperation.UPSERT, null, null,
+                        ((Number) row.get("recipient_id")).longValue()))
+                .toList();
+        changeLogRecorder.record(entityManager.unwrap(SessionImplementor.class), changes);
+
+        eventPublisher.publishEvent(new ProjectTasksArchivedEvent(projectId, false, moved));
+        project.setArchived(true);
+        project.setArchivedAt(archivedAt);
+        searchIndex.writeThrough(SearchDocument.from(project));
+        // Scheduled runs have no signed-in user and are recorded as system actions
+        auditLog.record(AuditAction.PROJECT_ARCHIVED, AuditTargetType.PROJECT, projectId, tasks + " tasks archived");
+        return project;
+    }
+
+    private Project moveFromArchive(Long projectId) {
+        Project project = lock(projectId);
+        if (!project.isArchived()) {
+            throw new IllegalStateException("Project is not archived");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("projectId", projectId);
+        int tasks = jdbcTemplate.update(RESTORE_TASKS, params);
+        jdbcTemplate.update(DELETE_ARCHIVED_TASKS, params);
+        jdbcTemplate.update(RESTORE_EVENTS, params);
+        jdbcTemplate.update(DELETE_ARCHIVED_EVENTS, params);
+        // Counted after the insert, since assignees removed meanwhile come back unassigned
+        eventPublisher.publishEvent(new ProjectTasksArchivedEvent(projectId, true, countTasks(params)));
+
+        project.setArchived(false);
+        project.setArchivedAt(null);
+        searchIndex.writeThrough(SearchDocument.from(project));
+        auditLog.record(AuditAction.PROJECT_RESTORED, AuditTargetType.PROJECT, projectId, tasks + " tasks restored");
+        return project;
+    }
+
+    private List<ProjectTasksArchivedEvent.TaskCount> countTasks(MapSqlParameterSource params) {
+        return jdbcTemplate.query(COUNT_TASKS, params, (rs, rowNum) -> {
+            long assigneeId = rs.getLong("assignee_id");
+            return new ProjectTasksArchivedEvent.TaskCount(rs.wasNull() ? null : assigneeId,
+                    TaskStatus.valueOf(rs.getString("status")), rs.getLong("total"));
+        });
+    }
+
+    private Project lock(Long projectId) {
+        Project project = entityManager.find(Project.class, projectId, LockModeType.PESSIMISTIC_WRITE);
+        if (project == null) {
+            throw new EntityNotFoundException("Project not found with id " + projectId);
+        }
+        return project;
+    }
+}
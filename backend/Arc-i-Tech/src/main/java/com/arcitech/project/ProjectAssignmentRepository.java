@@ -14,6 +14,9 @@ public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssign
     List<ProjectAssignment> findByMember(User member);
     @Query("select assignment from ProjectAssignment assignment where assignment.member.id = :memberId")
     List<ProjectAssignment> findByMemberId(@Param("memberId") Long memberId);
+    @Query("select distinct assignment.project.id from ProjectAssignment assignment where assignment.member.id = :memberId")
+    List<Long> findProjectIdsByMemberId(@Param("memberId") Long memberId);
     Optional<ProjectAssignment> findByProjectAndMember(Project project, User member);
     List<ProjectAssignment> findByAssignmentRole(Role role);
+    List<ProjectAssignment> findByProjectArchivedFalse();
 }
@@ -1,12 +1,14 @@
 package com.arcitech.project;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.ConditionalGet;
 import com.arcitech.user.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,17 +18,32 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectArchiveService projectArchiveService;
 
     @GetMapping("/projects/highlights")
-    public ApiResponse<List<ProjectResponse>> highlights() {
+    public ApiResponse<List<ProjectResponse>> highlights(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "projects:highlights", projectService.highlightedProjectsVersion())) {
+            return null;
+        }
         return ApiResponse.success("Project highlights", projectService.getHighlightedProjects());
     }
 
     @GetMapping("/projects")
-    public ApiResponse<List<ProjectResponse>> myProjects(@AuthenticationPrincipal User currentUser) {
+    public ApiResponse<List<ProjectSummary>> myProjects(@AuthenticationPrincipal User currentUser,
+                                                        WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "projects:client:" + currentUser.getId(),
+                projectService.projectsVersionForUser(currentUser))) {
+            return null;
+        }
         return ApiResponse.success("Fetched projects", projectService.getProjectsForUser(currentUser));
     }
 
+    @GetMapping("/projects/{projectId}")
+    public ApiResponse<ProjectResponse> myProject(@PathVariable Long projectId,
+                                                  @AuthenticationPrincipal User currentUser) {
+        return ApiResponse.success(projectService.getProjectForUser(projectId, currentUser));
+    }
+
     @PostMapping("/projects")
     public ApiResponse<ProjectResponse> createProject(@Valid @RequestBody ProjectRequest request,
                                                       @AuthenticationPrincipal User currentUser) {
@@ -35,8 +52,19 @@ public class ProjectController {
 
     @GetMapping("/admin/projects")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
-    public ApiResponse<List<ProjectResponse>> allProjects() {
-        return ApiResponse.success("All projects", projectService.getAllProjects());
+    public ApiResponse<List<ProjectSummary>> allProjects(@RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
+                                                          WebRequest webRequest) {
+        String key = includeArchived ? "projects:all:archived" : "projects:all";
+        if (ConditionalGet.notModified(webRequest, key, projectService.allProjectsVersion())) {
+            return null;
+        }
+        return ApiResponse.success("All projects", projectService.getAllProjects(includeArchived));
+    }
+
+    @GetMapping("/admin/projects/{projectId}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<ProjectResponse> project(@PathVariable Long projectId) {
+        return ApiResponse.success(projectService.getProject(projectId));
     }
 
     @PatchMapping("/admin/projects/{projectId}")
@@ -45,4 +73,16 @@ public class ProjectController {
                                                @Valid @RequestBody ProjectUpdateRequest request) {
         return ApiResponse.success("Project updated", projectService.updateProject(projectId, request));
     }
+
+    @PostMapping("/admin/projects/{projectId}/archive")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<ProjectResponse> archive(@PathVariable Long projectId) {
+        return ApiResponse.success("Project archived", projectArchiveService.archive(projectId));
+    }
+
+    @PostMapping("/admin/projects/{projectId}/restore")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+    public ApiResponse<ProjectResponse> restore(@PathVariable Long projectId) {
+        return ApiResponse.success("Project restored", projectArchiveService.restore(projectId));
+    }
 }
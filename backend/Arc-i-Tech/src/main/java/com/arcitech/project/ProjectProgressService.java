@@ -0,0 +1,80 @@
+package com.arcitech.project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the per-status task counters on {@link Project} in step with its tasks, and derives
+ * {@code progressPercentage} from them for projects with auto progress enabled.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectProgressService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskRepository projectTaskRepository;
+    private final ProjectService projectService;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void taskAdded(Project project, TaskStatus status) {
+        apply(project, status, null);
+    }
+
+    @Transactional
+    public void taskMoved(Project project, TaskStatus from, TaskStatus to) {
+        if (from != to) {
+            apply(project, to, from);
+        }
+    }
+
+    @Transactional
+    public void taskRemoved(Project project, TaskStatus status) {
+        apply(project, null, status);
+    }
+
+    /**
+     * Rebuilds every project's counters from the task table; also backfills projects created
+     * before the counters existed. Archived projects keep the counters they had when archived.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileAll() {
+        Map<Long, Map<TaskStatus, Integer>> counts = new HashMap<>();
+        for (Object[] row : projectTaskRepository.countByProjectAndStatus()) {
+            counts.computeIfAbsent((Long) row[0], id -> new EnumMap<>(TaskStatus.class))
+                    .put((TaskStatus) row[1], ((Long) row[2]).intValue());
+        }
+        List<Project> projects = projectRepository.findByArchivedFalse();
+        for (Project project : projects) {
+            project.applyTaskCounts(counts.getOrDefault(project.getId(), Map.of()));
+            project.syncProgress();
+        }
+    }
+
+    private void apply(Project project, TaskStatus added, TaskStatus removed) {
+        // A locking read sees the latest committed counters, so concurrent task writes serialize per project
+        entityManager.refresh(project, LockModeType.PESSIMISTIC_WRITE);
+        boolean wasComplete = projectService.isComplete(project);
+        if (removed != null) {
+            project.adjustTaskCount(removed, -1);
+        }
+        if (added != null) {
+            project.adjustTaskCount(added, 1);
+        }
+        project.syncProgress();
+        if (!wasComplete && projectService.isComplete(project)) {
+            projectService.dispatchCompletionNotifications(project);
+        }
+    }
+}
@@ -1,13 +1,76 @@
 package com.arcitech.project;
 
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    String SELECT_SUMMARY = """
+            select new com.arcitech.project.ProjectSummary(
+                p.id, p.name, p.summary, substring(p.details, 1, 280), p.status, p.progressPercentage, p.autoProgress,
+                p.todoTaskCount, p.inProgressTaskCount, p.reviewTaskCount, p.blockedTaskCount, p.doneTaskCount,
+                p.startDate, p.targetDate, p.highlighted, p.archived, c.id, c.fullName, p.createdAt, p.updatedAt)
+            from Project p left join p.client c
+            """;
+
+    // Read-only results are not snapshotted for dirty checking; use these only on paths that never modify them
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Project> findByHighlightedTrueOrderByUpdatedAtDesc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Project> findByClientOrderByUpdatedAtDesc(User client);
+
+    @Query(SELECT_SUMMARY + "where c.id = :clientId order by p.updatedAt desc")
+    List<ProjectSummary> findSummariesByClientId(@Param("clientId") Long clientId);
+
+    @Query(SELECT_SUMMARY + "where (:includeArchived = true or p.archived = false) order by p.updatedAt desc")
+    List<ProjectSummary> findSummaries(@Param("includeArchived") boolean includeArchived);
+
     Optional<Project> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Project> findByArchivedFalseOrderByUpdatedAtDesc();
+
+    List<Project> findByArchivedFalse();
+
+    @Query("""
+            select p.id from Project p
+            where p.archived = false
+              and p.status = com.arcitech.project.ProjectStatus.DEPLOYED
+              and p.updatedAt < :cutoff
+            order by p.updatedAt asc
+            """)
+    List<Long> findArchiveCandidateIds(@Param("cutoff") OffsetDateTime cutoff, Pageable pageable);
+
+    // Project payloads carry the client's name, so a client edit has to move the version too
+    String SELECT_VERSION = """
+            select new com.arcitech.common.ResourceVersion(count(p), max(p.updatedAt), max(c.updatedAt))
+            from Project p left join p.client c
+            """;
+
+    @Query(SELECT_VERSION)
+    ResourceVersion version();
+
+    @Query(SELECT_VERSION + "where p.client = :client")
+    ResourceVersion versionForClient(@Param("client") User client);
+
+    @Query(SELECT_VERSION + "where p.highlighted = true")
+    ResourceVersion highlightedVersion();
+
+    @Query("select p.id from Project p where p.client.id = :clientId")
+    List<Long> findIdsByClientId(@Param("clientId") Long clientId);
+
+    @Query("select p.status, count(p) from Project p group by p.status")
+    List<Object[]> countByStatus();
 }
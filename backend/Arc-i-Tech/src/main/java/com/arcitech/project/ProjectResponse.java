@@ -12,9 +12,12 @@ public record ProjectResponse(
         String details,
         ProjectStatus status,
         int progressPercentage,
+        boolean autoProgress,
+        ProjectTaskCounts taskCounts,
         LocalDate startDate,
         LocalDate targetDate,
         boolean highlighted,
+        boolean archived,
         Long clientId,
         String clientName,
         OffsetDateTime createdAt,
@@ -30,9 +33,12 @@ public record ProjectResponse(
                 project.getDetails(),
                 project.getStatus(),
                 project.getProgressPercentage(),
+                project.isAutoProgress(),
+                project.taskCounts(),
                 project.getStartDate(),
                 project.getTargetDate(),
                 project.isHighlighted(),
+                project.isArchived(),
                 client != null ? client.getId() : null,
                 client != null ? client.getFullName() : null,
                 project.getCreatedAt(),
@@ -1,11 +1,21 @@
 package com.arcitech.project;
 
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
+import com.arcitech.common.ResourceVersion;
+import com.arcitech.common.SingleFlight;
+import com.arcitech.search.SearchDocument;
+import com.arcitech.search.SearchIndex;
 import com.arcitech.user.NotificationService;
 import com.arcitech.user.NotificationType;
 import com.arcitech.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -21,7 +31,12 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectAssignmentRepository projectAssignmentRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final SingleFlight singleFlight;
+    private final AuditLog auditLog;
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getHighlightedProjects() {
         return projectRepository.findByHighlightedTrueOrderByUpdatedAtDesc()
                 .stream()
@@ -29,6 +44,21 @@ public class ProjectService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion highlightedProjectsVersion() {
+        return projectRepository.highlightedVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion projectsVersionForUser(User user) {
+        return projectRepository.versionForClient(user);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion allProjectsVersion() {
+        return projectRepository.version();
+    }
+
     public ProjectResponse submitProjectRequest(ProjectRequest request, User customer) {
         Project project = Project.builder()
                 .name(request.name())
@@ -43,53 +73,88 @@ public class ProjectService {
                 .build();
 
         Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectStatusChangedEvent(saved.getId(), null, saved.getStatus()));
+        searchIndex.writeThrough(SearchDocument.from(saved));
         return ProjectResponse.from(saved);
     }
 
-    public List<ProjectResponse> getProjectsForUser(User user) {
-        return projectRepository.findByClientOrderByUpdatedAtDesc(user)
-                .stream()
-                .map(ProjectResponse::from)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getProjectsForUser(User user) {
+        return projectRepository.findSummariesByClientId(user.getId());
     }
 
-    public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .sorted((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()))
-                .map(ProjectResponse::from)
-                .toList();
+    @Transactional(readOnly = true)
+    public ProjectResponse getProject(Long id) {
+        return ProjectResponse.from(findProject(id));
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectResponse getProjectForUser(Long id, User user) {
+        Project project = findProject(id);
+        User client = project.getClient();
+        if (client == null || !client.getId().equals(user.getId())) {
+            throw new AccessDeniedException("You are not allowed to view this project.");
+        }
+        return ProjectResponse.from(project);
+    }
+
+    /**
+     * Coalesced but never reused after it completes, since the task counters move with every task write.
+     * Runs outside a transaction: the summaries are projections read in the repository's own
+     * read-only transaction, so callers waiting on the shared query hold no connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProjectSummary> getAllProjects(boolean includeArchived) {
+        return singleFlight.run("projects:all:" + includeArchived, () -> projectRepository.findSummaries(includeArchived));
     }
 
     public ProjectResponse updateProject(Long id, ProjectUpdateRequest request) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Project not found with id " + id));
+        Project project = findProject(id);
+        if (project.isArchived()) {
+            throw new IllegalStateException("Restore the project before editing it");
+        }
 
         boolean wasComplete = isComplete(project);
+        ProjectStatus previousStatus = project.getStatus();
 
         project.setStatus(request.status());
-        if (request.progressPercentage() != null) {
+        if (request.autoProgress() != null) {
+            project.setAutoProgress(request.autoProgress());
+        }
+        if (request.progressPercentage() != null && !project.isAutoProgress()) {
             project.setProgressPercentage(request.progressPercentage());
         }
+        project.syncProgress();
         if (request.targetDate() != null) {
             project.setTargetDate(request.targetDate());
         }
         boolean isComplete = isComplete(project);
 
         Project saved = projectRepository.save(project);
+        if (previousStatus != saved.getStatus()) {
+            eventPublisher.publishEvent(new ProjectStatusChangedEvent(saved.getId(), previousStatus, saved.getStatus()));
+        }
 
         if (!wasComplete && isComplete) {
             dispatchCompletionNotifications(saved);
         }
+        searchIndex.writeThrough(SearchDocument.from(saved));
+        auditLog.record(AuditAction.PROJECT_UPDATED, AuditTargetType.PROJECT, saved.getId(),
+                "status " + previousStatus + " -> " + saved.getStatus() + ", progress " + saved.getProgressPercentage() + "%");
 
         return ProjectResponse.from(saved);
     }
 
-    private boolean isComplete(Project project) {
+    private Project findProject(Long id) {
+        return projectRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with id " + id));
+    }
+
+    boolean isComplete(Project project) {
         return project.getStatus() == ProjectStatus.DEPLOYED || project.getProgressPercentage() >= 100;
     }
 
-    private void dispatchCompletionNotifications(Project project) {
+    void dispatchCompletionNotifications(Project project) {
         Set<Long> notifiedUserIds = new HashSet<>();
 
         User client = project.getClient();
@@ -0,0 +1,11 @@
+package com.arcitech.project;
+
+/**
+ * Published when a project is created ({@code previous} is null) or changes status.
+ */
+public record ProjectStatusChangedEvent(
+        Long projectId,
+        ProjectStatus previous,
+        ProjectStatus current
+) {
+}
@@ -0,0 +1,54 @@
+package com.arcitech.project;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * List row for a project. Carries the first 280 characters of the {@code @Lob} details as a preview;
+ * only {@link ProjectResponse} from the detail endpoints includes the full text.
+ */
+public record ProjectSummary(
+        Long id,
+        String name,
+        String summary,
+        String detailsPreview,
+        ProjectStatus status,
+        int progressPercentage,
+        boolean autoProgress,
+        ProjectTaskCounts taskCounts,
+        LocalDate startDate,
+        LocalDate targetDate,
+        boolean highlighted,
+        boolean archived,
+        Long clientId,
+        String clientName,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+
+    // Constructor expressions cannot nest, so the queries pass the task counters flat
+    public ProjectSummary(Long id,
+                          String name,
+                          String summary,
+                          String detailsPreview,
+                          ProjectStatus status,
+                          int progressPercentage,
+                          boolean autoProgress,
+                          int todoTaskCount,
+                          int inProgressTaskCount,
+                          int reviewTaskCount,
+                          int blockedTaskCount,
+                          int doneTaskCount,
+                          LocalDate startDate,
+                          LocalDate targetDate,
+                          boolean highlighted,
+                          boolean archived,
+                          Long clientId,
+                          String clientName,
+                          OffsetDateTime createdAt,
+                          OffsetDateTime updatedAt) {
+        this(id, name, summary, detailsPreview, status, progressPercentage, autoProgress,
+                new ProjectTaskCounts(todoTaskCount, inProgressTaskCount, reviewTaskCount, blockedTaskCount, doneTaskCount),
+                startDate, targetDate, highlighted, archived, clientId, clientName, createdAt, updatedAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.arcitech.project;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.ConditionalGet;
 import com.arcitech.user.User;
 import com.arcitech.user.dto.ProjectTaskDto;
 import com.arcitech.user.dto.TaskBoardResponse;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
@@ -35,18 +37,26 @@ public class ProjectTaskController {
     @GetMapping("/developer/projects/{projectId}/tasks")
     @PreAuthorize("hasRole('DEVELOPER')")
     public ApiResponse<TaskBoardResponse> developerBoard(@AuthenticationPrincipal User developer,
-                                                         @PathVariable Long projectId) {
+                                                         @PathVariable Long projectId,
+                                                         WebRequest webRequest) {
         Project project = resolveProject(projectId);
         assertAssigned(project, developer);
+        if (notModified(webRequest, projectId)) {
+            return null;
+        }
         return ApiResponse.success("Project task board", projectTaskService.boardResponseForProject(projectId));
     }
     
     @GetMapping("/dashboard/projects/{projectId}/tasks")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ApiResponse<TaskBoardResponse> customerBoard(@AuthenticationPrincipal User customer,
-                                                        @PathVariable Long projectId) {
+                                                        @PathVariable Long projectId,
+                                                        WebRequest webRequest) {
         Project project = resolveProject(projectId);
         assertClient(project, customer);
+        if (notModified(webRequest, projectId)) {
+            return null;
+        }
         return ApiResponse.success("Project task board", projectTaskService.boardResponseForProject(projectId));
     }
 
@@ -86,7 +96,10 @@ public class ProjectTaskController {
 
     @GetMapping("/admin/projects/{projectId}/tasks")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
-    public ApiResponse<TaskBoardResponse> adminBoard(@PathVariable Long projectId) {
+    public ApiResponse<TaskBoardResponse> adminBoard(@PathVariable Long projectId, WebRequest webRequest) {
+        if (notModified(webRequest, projectId)) {
+            return null;
+        }
         return ApiResponse.success("Project task board", projectTaskService.boardResponseForProject(projectId));
     }
 
@@ -119,6 +132,10 @@ public class ProjectTaskController {
         projectTaskService.deleteTask(taskId);
     }
 
+    private boolean notModified(WebRequest webRequest, Long projectId) {
+        return ConditionalGet.notModified(webRequest, "tasks:project:" + projectId, projectTaskService.boardVersion(projectId));
+    }
+
     private Project resolveProject(Long projectId) {
         return projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id " + projectId));
@@ -0,0 +1,26 @@
+package com.arcitech.project;
+
+public record ProjectTaskCounts(
+        int todo,
+        int inProgress,
+        int review,
+        int blocked,
+        int done
+) {
+
+    public int total() {
+        return todo + inProgress + review + blocked + done;
+    }
+
+    public int open() {
+        return total() - done;
+    }
+
+    /**
+     * Share of tasks that are done, or {@code fallback} when the project has no tasks.
+     */
+    public int progress(int fallback) {
+        int total = total();
+        return total == 0 ? fallback : (int) Math.round((done * 100.0) / total);
+    }
+}
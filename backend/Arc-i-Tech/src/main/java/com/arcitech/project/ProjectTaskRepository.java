@@ -1,12 +1,39 @@
 package com.arcitech.project;
 
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProjectTaskRepository extends JpaRepository<ProjectTask, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ProjectTask> findByProject(Project project);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ProjectTask> findByAssignee(User assignee);
+
     List<ProjectTask> findByProjectAndStatus(Project project, TaskStatus status);
+
+    // Board rows carry the project name and the assignee's StaffSummary, so both count towards the version
+    @Query("""
+            select new com.arcitech.common.ResourceVersion(count(t), max(t.updatedAt), max(a.updatedAt), max(p.updatedAt))
+            from Project p
+            left join ProjectTask t on t.project = p
+            left join t.assignee a
+            where p.id = :projectId
+            """)
+    ResourceVersion versionForProject(@Param("projectId") Long projectId);
+
+    @Query("select t.project.id, t.status, count(t) from ProjectTask t group by t.project.id, t.status")
+    List<Object[]> countByProjectAndStatus();
+
+    @Query("select a.id, t.status, count(t) from ProjectTask t left join t.assignee a group by a.id, t.status")
+    List<Object[]> countByAssigneeAndStatus();
 }
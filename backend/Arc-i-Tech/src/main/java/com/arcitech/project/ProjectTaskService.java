@@ -1,5 +1,9 @@
 package com.arcitech.project;
 
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.user.NotificationService;
 import com.arcitech.user.Role;
 import com.arcitech.user.User;
@@ -8,11 +12,13 @@ import com.arcitech.user.UserRepository;
 import com.arcitech.user.dto.ProjectTaskDto;
 import com.arcitech.user.dto.StaffSummary;
 import com.arcitech.user.dto.TaskBoardResponse;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +31,13 @@ import java.util.stream.Collectors;
 public class ProjectTaskService {
 
     private final ProjectTaskRepository projectTaskRepository;
+    private final ArchivedProjectTaskRepository archivedTaskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ProjectProgressService projectProgressService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLog auditLog;
 
     public ProjectTaskDto createTask(ProjectTaskRequest request, User actor) {
         Project project = projectRepository.findById(request.projectId())
@@ -47,16 +57,28 @@ public class ProjectTaskService {
                 .dueDate(request.dueDate())
                 .build();
 
+        // Lock the project before the insert takes a shared FK lock on it
+        projectProgressService.taskAdded(project, task.getStatus());
+        // Checked under the project lock so it cannot race an archive
+        if (project.isArchived()) {
+            throw new IllegalStateException("Restore the project before adding tasks");
+        }
         ProjectTask saved = projectTaskRepository.save(task);
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(
+                saved.getId(), null, null, assigneeId(saved), saved.getStatus()));
         if (assignee != null) {
             notificationService.notifyTaskAssigned(assignee, saved, actor);
         }
+        auditLog.record(actor, AuditAction.TASK_CREATED, AuditTargetType.TASK, saved.getId(),
+                "project " + project.getId() + ", assignee " + assigneeId(saved));
         return toDto(saved);
     }
 
     public ProjectTaskDto updateTask(Long taskId, ProjectTaskUpdateRequest request, User actor) {
         ProjectTask task = projectTaskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
+        TaskStatus previousStatus = task.getStatus();
+        Long previousAssigneeId = assigneeId(task);
         if (request.title() != null) {
             task.setTitle(request.title());
         }
@@ -80,28 +102,58 @@ public class ProjectTaskService {
             task.setAssignee(null);
         }
         ProjectTask saved = projectTaskRepository.save(task);
+        projectProgressService.taskMoved(saved.getProject(), previousStatus, saved.getStatus());
+        if (previousStatus != saved.getStatus() || !Objects.equals(previousAssigneeId, assigneeId(saved))) {
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(
+                    saved.getId(), previousAssigneeId, previousStatus, assigneeId(saved), saved.getStatus()));
+        }
         notificationService.notifyTaskUpdated(saved, actor);
+        auditLog.record(actor, AuditAction.TASK_UPDATED, AuditTargetType.TASK, saved.getId(),
+                "status " + previousStatus + " -> " + saved.getStatus()
+                        + ", assignee " + previousAssigneeId + " -> " + assigneeId(saved));
         return toDto(saved);
     }
 
     public void deleteTask(Long taskId) {
-        projectTaskRepository.deleteById(taskId);
+        projectTaskRepository.findById(taskId).ifPresent(task -> {
+            projectProgressService.taskRemoved(task.getProject(), task.getStatus());
+            projectTaskRepository.delete(task);
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(
+                    task.getId(), assigneeId(task), task.getStatus(), null, null));
+            auditLog.record(AuditAction.TASK_DELETED, AuditTargetType.TASK, task.getId(),
+                    "project " + task.getProject().getId() + ", " + task.getTitle());
+        });
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectTaskDto> tasksForProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        if (project.isArchived()) {
+            return archivedTasks(project);
+        }
         return projectTaskRepository.findByProject(project).stream()
                 .map(this::toDto)
                 .sorted(Comparator.comparing(ProjectTaskDto::updatedAt).reversed())
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion boardVersion(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        return project.isArchived()
+                ? archivedTaskRepository.versionForProject(projectId)
+                : projectTaskRepository.versionForProject(projectId);
+    }
+
+    @Transactional(readOnly = true)
     public Map<TaskStatus, List<ProjectTaskDto>> boardForProject(Long projectId) {
         return tasksForProject(projectId).stream()
                 .collect(Collectors.groupingBy(ProjectTaskDto::status));
     }
 
+    @Transactional(readOnly = true)
     public TaskBoardResponse boardResponseForProject(Long projectId) {
         Map<TaskStatus, List<ProjectTaskDto>> grouped = boardForProject(projectId);
         return new TaskBoardResponse(
@@ -113,6 +165,7 @@ public class ProjectTaskService {
         );
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectTaskDto> tasksForDeveloper(User developer) {
         return projectTaskRepository.findByAssignee(developer).stream()
                 .map(this::toDto)
@@ -120,6 +173,41 @@ public class ProjectTaskService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<ProjectTaskDto> tasksByIds(Collection<Long> taskIds) {
+        return projectTaskRepository.findAllById(taskIds).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    private List<ProjectTaskDto> archivedTasks(Project project) {
+        List<ArchivedProjectTask> tasks = archivedTaskRepository.findByProjectId(project.getId());
+        Map<Long, StaffSummary> assignees = userRepository.findAllById(tasks.stream()
+                        .map(ArchivedProjectTask::getAssigneeId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, StaffSummary::from));
+        return tasks.stream()
+                .map(task -> new ProjectTaskDto(
+                        task.getId(),
+                        project.getId(),
+                        project.getName(),
+                        task.getTitle(),
+                        task.getDescription(),
+                        task.getStatus(),
+                        task.getPriority(),
+                        task.getDueDate(),
+                        task.getAssigneeId() != null ? assignees.get(task.getAssigneeId()) : null,
+                        task.getUpdatedAt()))
+                .sorted(Comparator.comparing(ProjectTaskDto::updatedAt).reversed())
+                .toList();
+    }
+
+    private static Long assigneeId(ProjectTask task) {
+        return task.getAssignee() != null ? task.getAssignee().getId() : null;
+    }
+
     private ProjectTaskDto toDto(ProjectTask task) {
         return new ProjectTaskDto(
                 task.getId(),
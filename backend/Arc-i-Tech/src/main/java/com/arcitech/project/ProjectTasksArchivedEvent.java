@@ -0,0 +1,18 @@
+package com.arcitech.project;
+
+import java.util.List;
+
+/**
+ * Published when a project's tasks move to the archive ({@code restored} false) or back. Archived
+ * tasks are not live work, so per-assignee task figures drop them on archive and count them again
+ * on restore; {@code counts} holds the moved tasks grouped by assignee and status.
+ */
+public record ProjectTasksArchivedEvent(
+        Long projectId,
+        boolean restored,
+        List<TaskCount> counts
+) {
+
+    public record TaskCount(Long assigneeId, TaskStatus status, long count) {
+    }
+}
@@ -3,11 +3,14 @@ package com.arcitech.project;
 import com.arcitech.user.dto.ProjectTimelineEventDto;
 import com.arcitech.user.dto.StaffSummary;
 import com.arcitech.user.User;
-import jakarta.transaction.Transactional;
+import com.arcitech.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,12 +19,18 @@ import java.util.stream.Collectors;
 public class ProjectTimelineService {
 
     private final ProjectTimelineEventRepository timelineEventRepository;
+    private final ArchivedTimelineEventRepository archivedTimelineEventRepository;
+    private final UserRepository userRepository;
 
     public ProjectTimelineEventDto recordEvent(Project project,
                                                TimelineEventType eventType,
                                                String title,
                                                String description,
                                                User actor) {
+        // Archived timelines are read from the archive table, so an event written here would never show
+        if (project.isArchived()) {
+            throw new IllegalStateException("Project is archived; restore it before adding timeline events");
+        }
         ProjectTimelineEvent event = ProjectTimelineEvent.builder()
                 .project(project)
                 .eventType(eventType)
@@ -32,12 +41,35 @@ public class ProjectTimelineService {
         return toDto(timelineEventRepository.save(event));
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectTimelineEventDto> getTimeline(Project project) {
+        if (project.isArchived()) {
+            return archivedTimeline(project);
+        }
         return timelineEventRepository.findByProjectOrderByOccurredAtDesc(project).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    private List<ProjectTimelineEventDto> archivedTimeline(Project project) {
+        List<ArchivedTimelineEvent> events = archivedTimelineEventRepository.findByProjectIdOrderByOccurredAtDesc(project.getId());
+        Map<Long, StaffSummary> actors = userRepository.findAllById(events.stream()
+                        .map(ArchivedTimelineEvent::getActorId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, StaffSummary::from));
+        return events.stream()
+                .map(event -> new ProjectTimelineEventDto(
+                        event.getId(),
+                        event.getEventType(),
+                        event.getTitle(),
+                        event.getDescription(),
+                        event.getOccurredAt(),
+                        event.getActorId() != null ? actors.get(event.getActorId()) : null))
+                .collect(Collectors.toList());
+    }
+
     private ProjectTimelineEventDto toDto(ProjectTimelineEvent event) {
         return new ProjectTimelineEventDto(
                 event.getId(),
@@ -14,6 +14,8 @@ public record ProjectUpdateRequest(
         @Max(value = 100, message = "Progress cannot exceed 100")
         Integer progressPercentage,
 
+        Boolean autoProgress,
+
         LocalDate targetDate
 ) {
 }
@@ -0,0 +1,14 @@
+package com.arcitech.project;
+
+/**
+ * Published when a task is created, deleted, moved to another status or reassigned.
+ * The previous side is null for a new task and the current side is null for a deleted one.
+ */
+public record TaskStatusChangedEvent(
+        Long taskId,
+        Long previousAssigneeId,
+        TaskStatus previous,
+        Long currentAssigneeId,
+        TaskStatus current
+) {
+}
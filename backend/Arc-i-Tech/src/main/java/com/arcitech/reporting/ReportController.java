@@ -1,16 +1,24 @@
 package com.arcitech.reporting;
 
+import com.arcitech.common.ApiResponse;
 import com.arcitech.user.Role;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/super-admin/reports")
 @RequiredArgsConstructor
@@ -18,15 +26,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
 
     @GetMapping(value = "/projects", produces = "text/csv")
-    public ResponseEntity<String> exportProjects() {
-        return csvResponse("projects.csv", reportService.exportProjectsCsv());
+    public ResponseEntity<String> exportProjects(@RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return csvResponse("projects.csv", reportService.exportProjectsCsv(includeArchived));
     }
 
     @GetMapping(value = "/assignments", produces = "text/csv")
-    public ResponseEntity<String> exportAssignments() {
-        return csvResponse("project-assignments.csv", reportService.exportAssignmentsCsv());
+    public ResponseEntity<String> exportAssignments(@RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return csvResponse("project-assignments.csv", reportService.exportAssignmentsCsv(includeArchived));
     }
 
     @GetMapping(value = "/services", produces = "text/csv")
@@ -44,6 +53,44 @@ public class ReportController {
         return csvResponse("inquiries.csv", reportService.exportInquiriesCsv());
     }
 
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> submitJob(@RequestParam("type") ReportType type,
+                                                                    @RequestParam(value = "role", required = false) Role role,
+                                                                    @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                                                                    @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        ReportJob job = reportJobService.submit(type, role, gzip, includeArchived);
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("Report job queued", ReportJobResponse.from(job)));
+    }
+
+    @GetMapping("/jobs")
+    public ApiResponse<List<ReportJobResponse>> listJobs() {
+        return ApiResponse.success(reportJobService.list().stream()
+                .map(ReportJobResponse::from)
+                .toList());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ApiResponse<ReportJobResponse> getJob(@PathVariable String jobId) {
+        return ApiResponse.success(ReportJobResponse.from(reportJobService.get(jobId)));
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    public void downloadJob(@PathVariable String jobId,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        ReportJob job = reportJobService.completed(jobId);
+        SpoolFileTransfer.send(
+                job.getFile(),
+                job.getSizeBytes(),
+                job.isGzip() ? "application/gzip" : "text/csv",
+                job.fileName(),
+                "\"" + job.getId() + "-" + job.getSizeBytes() + "\"",
+                request,
+                response
+        );
+    }
+
     private ResponseEntity<String> csvResponse(String filename, String body) {
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
@@ -0,0 +1,65 @@
+package com.arcitech.reporting;
+
+import com.arcitech.user.Role;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+
+/**
+ * In-memory state of one background export and its spool file.
+ */
+@Getter
+public class ReportJob {
+
+    private final String id;
+    private final ReportType type;
+    private final Role role;
+    private final boolean gzip;
+    private final boolean includeArchived;
+    private final OffsetDateTime createdAt;
+
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile Path file;
+    private volatile long sizeBytes;
+    private volatile OffsetDateTime completedAt;
+    private volatile OffsetDateTime expiresAt;
+    private volatile String error;
+
+    ReportJob(String id, ReportType type, Role role, boolean gzip, boolean includeArchived) {
+        this.id = id;
+        this.type = type;
+        this.role = role;
+        this.gzip = gzip;
+        this.includeArchived = includeArchived;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public String fileName() {
+        String name = type.fileName(role);
+        return gzip ? name + ".gz" : name;
+    }
+
+    void markRunning() {
+        status = ReportJobStatus.RUNNING;
+    }
+
+    void markCompleted(Path file, long sizeBytes, OffsetDateTime expiresAt) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        this.completedAt = OffsetDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ReportJobStatus.COMPLETED;
+    }
+
+    void markFailed(String error, OffsetDateTime expiresAt) {
+        this.error = error;
+        this.completedAt = OffsetDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ReportJobStatus.FAILED;
+    }
+
+    boolean isExpired(OffsetDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,38 @@
+package com.arcitech.reporting;
+
+import com.arcitech.user.Role;
+
+import java.time.OffsetDateTime;
+
+public record ReportJobResponse(
+        String id,
+        ReportType type,
+        Role role,
+        ReportJobStatus status,
+        boolean gzip,
+        boolean includeArchived,
+        String fileName,
+        long sizeBytes,
+        OffsetDateTime createdAt,
+        OffsetDateTime completedAt,
+        OffsetDateTime expiresAt,
+        String error
+) {
+
+    public static ReportJobResponse from(ReportJob job) {
+        return new ReportJobResponse(
+                job.getId(),
+                job.getType(),
+                job.getRole(),
+                job.getStatus(),
+                job.isGzip(),
+                job.isIncludeArchived(),
+                job.fileName(),
+                job.getSizeBytes(),
+                job.getCreatedAt(),
+                job.getCompletedAt(),
+                job.getExpiresAt(),
+                job.getError()
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.arcitech.reporting;
+
+import com.arcitech.common.TooManyRequestsException;
+import com.arcitech.user.Role;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs report exports on a small bounded pool and spools the CSV to disk, so exports never
+ * hold a request thread and downloads can be resumed.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private final ReportService reportService;
+    private final Path spoolDir;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportService reportService,
+                            @Value("${app.reports.spool-dir:${java.io.tmpdir}/arcitech-reports}") String spoolDir,
+                            @Value("${app.reports.retention-minutes:60}") long retentionMinutes,
+                            @Value("${app.reports.worker-threads:2}") int workerThreads,
+                            @Value("${app.reports.queue-capacity:20}") int queueCapacity) throws IOException {
+        this.reportService = reportService;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ReportJob submit(ReportType type, Role role, boolean gzip, boolean includeArchived) {
+        if (type == ReportType.STAFF && role == null) {
+            throw new IllegalArgumentException("Staff reports require a role");
+        }
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), type, role, gzip, includeArchived);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            throw new TooManyRequestsException("Too many report jobs in progress, try again shortly", 15);
+        }
+        return job;
+    }
+
+    public ReportJob get(String id) {
+        ReportJob job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Report job not found");
+        }
+        return job;
+    }
+
+    public List<ReportJob> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ReportJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    public ReportJob completed(String id) {
+        ReportJob job = get(id);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new IllegalStateException("Report job is " + job.getStatus().name().toLowerCase());
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.cleanup-interval-ms:300000}")
+    public void purgeExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        jobs.values().removeIf(job -> {
+            if (!job.isExpired(now)) {
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.getFile()));
+    }
+
+    private void run(ReportJob job) {
+        job.markRunning();
+        Path part = spoolDir.resolve(job.getId() + ".part");
+        try {
+            try (OutputStream file = Files.newOutputStream(part);
+                 OutputStream body = job.isGzip() ? new GZIPOutputStream(file, 64 * 1024) : file;
+                 Writer out = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), 64 * 1024)) {
+                reportService.write(job.getType(), job.getRole(), job.isIncludeArchived(), out);
+            }
+            Path target = Files.move(part, spoolDir.resolve(job.getId() + (job.isGzip() ? ".csv.gz" : ".csv")),
+                    StandardCopyOption.ATOMIC_MOVE);
+            job.markCompleted(target, Files.size(target), OffsetDateTime.now().plus(retention));
+        } catch (Exception ex) {
+            log.warn("Report job {} ({}) failed", job.getId(), job.getType(), ex);
+            deleteQuietly(part);
+            job.markFailed(ex.getMessage(), OffsetDateTime.now().plus(retention));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete report spool {}", file, ex);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.arcitech.reporting;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,6 +1,7 @@
 package com.arcitech.reporting;
 
 import com.arcitech.catalog.ServiceOfferingRepository;
+import com.arcitech.common.SingleFlight;
 import com.arcitech.inquiry.InquiryRepository;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectAssignmentRepository;
@@ -8,15 +9,28 @@ import com.arcitech.project.ProjectRepository;
 import com.arcitech.user.Role;
 import com.arcitech.user.User;
 import com.arcitech.user.UserRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.function.Function;
 
+/**
+ * Builds the super-admin CSV exports. Each report is written row by row to a {@link Writer} so
+ * it can go to a response body or to a spool file from a background job. Project and assignment
+ * reports leave out archived projects unless asked to include them. The coalesced exports run
+ * outside a transaction and only the rendering opens one, so callers waiting on a shared
+ * rendering do not each hold a connection.
+ */
 @Service
-@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
@@ -26,92 +40,154 @@ public class ReportService {
     private final ServiceOfferingRepository serviceOfferingRepository;
     private final UserRepository userRepository;
     private final InquiryRepository inquiryRepository;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public String exportProjectsCsv() {
-        List<Project> projects = projectRepository.findAll();
-        StringBuilder builder = new StringBuilder();
-        builder.append("Project ID,Name,Client,Status,Progress %,Start Date,Target Date,Highlighted\n");
-        projects.forEach(project -> builder.append(String.join(",",
-                csv(project.getId()),
-                csv(project.getName()),
-                csv(project.getClient() != null ? project.getClient().getFullName() : ""),
-                csv(project.getStatus().name()),
-                csv(Integer.toString(project.getProgressPercentage())),
-                csv(project.getStartDate() != null ? DATE_FORMATTER.format(project.getStartDate()) : ""),
-                csv(project.getTargetDate() != null ? DATE_FORMATTER.format(project.getTargetDate()) : ""),
-                csv(Boolean.toString(project.isHighlighted()))
-        )).append("\n"));
-        return builder.toString();
-    }
-
-    public String exportAssignmentsCsv() {
-        var assignments = assignmentRepository.findAll();
-        StringBuilder builder = new StringBuilder();
-        builder.append("Assignment ID,Project ID,Project Name,Member,Email,Role,Assigned At\n");
-        assignments.forEach(assignment -> builder.append(String.join(",",
-                csv(assignment.getId()),
-                csv(assignment.getProject().getId()),
-                csv(assignment.getProject().getName()),
-                csv(assignment.getMember().getFullName()),
-                csv(assignment.getMember().getEmail()),
-                csv(assignment.getAssignmentRole().name()),
-                csv(assignment.getAssignedAt().toString())
-        )).append("\n"));
-        return builder.toString();
+    public ReportService(ProjectRepository projectRepository,
+                         ProjectAssignmentRepository assignmentRepository,
+                         ServiceOfferingRepository serviceOfferingRepository,
+                         UserRepository userRepository,
+                         InquiryRepository inquiryRepository,
+                         SingleFlight singleFlight,
+                         PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.serviceOfferingRepository = serviceOfferingRepository;
+        this.userRepository = userRepository;
+        this.inquiryRepository = inquiryRepository;
+        this.singleFlight = singleFlight;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
+    // Concurrent downloads of the same report share one rendering
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String exportProjectsCsv(boolean includeArchived) {
+        return singleFlight.run("report:projects:" + includeArchived, () -> render(out -> writeProjectsCsv(includeArchived, out)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String exportAssignmentsCsv(boolean includeArchived) {
+        return singleFlight.run("report:assignments:" + includeArchived, () -> render(out -> writeAssignmentsCsv(includeArchived, out)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String exportServicesCsv() {
-        var services = serviceOfferingRepository.findAll();
-        StringBuilder builder = new StringBuilder();
-        builder.append("Service ID,Name,Category,Featured,Starting Price,Short Description\n");
-        services.forEach(service -> builder.append(String.join(",",
-                csv(service.getId()),
-                csv(service.getName()),
-                csv(service.getCategory()),
-                csv(Boolean.toString(service.isFeatured())),
-                csv(service.getStartingPrice() != null ? service.getStartingPrice().toPlainString() : ""),
-                csv(service.getShortDescription())
-        )).append("\n"));
-        return builder.toString();
+        return singleFlight.run("report:services", () -> render(this::writeServicesCsv));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String exportStaffCsv(Role role) {
-        List<User> users = userRepository.findAll()
-                .stream()
-                .filter(user -> user.getRole() == role)
-                .toList();
-        return buildUserCsv(users);
+        return singleFlight.run("report:staff:" + role, () -> render(out -> writeStaffCsv(role, out)));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String exportInquiriesCsv() {
+        return singleFlight.run("report:inquiries", () -> render(this::writeInquiriesCsv));
+    }
+
+    public void write(ReportType type, Role role, boolean includeArchived, Writer out) throws IOException {
+        switch (type) {
+            case PROJECTS -> writeProjectsCsv(includeArchived, out);
+            case ASSIGNMENTS -> writeAssignmentsCsv(includeArchived, out);
+            case SERVICES -> writeServicesCsv(out);
+            case STAFF -> writeStaffCsv(role, out);
+            case INQUIRIES -> writeInquiriesCsv(out);
+        }
+    }
+
+    public void writeProjectsCsv(boolean includeArchived, Writer out) throws IOException {
+        List<Project> projects = includeArchived ? projectRepository.findAll() : projectRepository.findByArchivedFalse();
+        out.write("Project ID,Name,Client,Status,Progress %,Start Date,Target Date,Highlighted,Archived\n");
+        for (Project project : projects) {
+            row(out,
+                    csv(project.getId()),
+                    csv(project.getName()),
+                    csv(project.getClient() != null ? project.getClient().getFullName() : ""),
+                    csv(project.getStatus().name()),
+                    csv(Integer.toString(project.getProgressPercentage())),
+                    csv(project.getStartDate() != null ? DATE_FORMATTER.format(project.getStartDate()) : ""),
+                    csv(project.getTargetDate() != null ? DATE_FORMATTER.format(project.getTargetDate()) : ""),
+                    csv(Boolean.toString(project.isHighlighted())),
+                    csv(Boolean.toString(project.isArchived())));
+        }
+    }
+
+    public void writeAssignmentsCsv(boolean includeArchived, Writer out) throws IOException {
+        var assignments = includeArchived ? assignmentRepository.findAll() : assignmentRepository.findByProjectArchivedFalse();
+        out.write("Assignment ID,Project ID,Project Name,Member,Email,Role,Assigned At\n");
+        for (var assignment : assignments) {
+            row(out,
+                    csv(assignment.getId()),
+                    csv(assignment.getProject().getId()),
+                    csv(assignment.getProject().getName()),
+                    csv(assignment.getMember().getFullName()),
+                    csv(assignment.getMember().getEmail()),
+                    csv(assignment.getAssignmentRole().name()),
+                    csv(assignment.getAssignedAt().toString()));
+        }
+    }
+
+    public void writeServicesCsv(Writer out) throws IOException {
+        var services = serviceOfferingRepository.findAll();
+        out.write("Service ID,Name,Category,Featured,Starting Price,Short Description\n");
+        for (var service : services) {
+            row(out,
+                    csv(service.getId()),
+                    csv(service.getName()),
+                    csv(service.getCategory()),
+                    csv(Boolean.toString(service.isFeatured())),
+                    csv(service.getStartingPrice() != null ? service.getStartingPrice().toPlainString() : ""),
+                    csv(service.getShortDescription()));
+        }
+    }
+
+    public void writeStaffCsv(Role role, Writer out) throws IOException {
+        List<User> users = userRepository.findByRole(role);
+        out.write("User ID,Full Name,Email,Role,Created At\n");
+        for (User user : users) {
+            row(out,
+                    csv(user.getId()),
+                    csv(user.getFullName()),
+                    csv(user.getEmail()),
+                    csv(user.getRole().name()),
+                    csv(user.getCreatedAt().toString()));
+        }
+    }
+
+    public void writeInquiriesCsv(Writer out) throws IOException {
         var inquiries = inquiryRepository.findAll();
-        StringBuilder builder = new StringBuilder();
-        builder.append("Inquiry ID,Full Name,Email,Phone,Company,Status,Assigned To,Source,Created At\n");
-        inquiries.forEach(inquiry -> builder.append(String.join(",",
-                csv(inquiry.getId()),
-                csv(inquiry.getFullName()),
-                csv(inquiry.getEmail()),
-                csv(inquiry.getPhone()),
-                csv(inquiry.getCompany()),
-                csv(inquiry.getStatus().name()),
-                csv(inquiry.getAssignedTo()),
-                csv(inquiry.getSource()),
-                csv(inquiry.getCreatedAt().toString())
-        )).append("\n"));
-        return builder.toString();
-    }
-
-    private String buildUserCsv(List<User> users) {
-        StringBuilder builder = new StringBuilder();
-        builder.append("User ID,Full Name,Email,Role,Created At\n");
-        users.forEach(user -> builder.append(String.join(",",
-                csv(user.getId()),
-                csv(user.getFullName()),
-                csv(user.getEmail()),
-                csv(user.getRole().name()),
-                csv(user.getCreatedAt().toString())
-        )).append("\n"));
-        return builder.toString();
+        out.write("Inquiry ID,Full Name,Email,Phone,Company,Status,Assigned To,Source,Created At\n");
+        for (var inquiry : inquiries) {
+            row(out,
+                    csv(inquiry.getId()),
+                    csv(inquiry.getFullName()),
+                    csv(inquiry.getEmail()),
+                    csv(inquiry.getPhone()),
+                    csv(inquiry.getCompany()),
+                    csv(inquiry.getStatus().name()),
+                    csv(inquiry.getAssignedTo()),
+                    csv(inquiry.getSource()),
+                    csv(inquiry.getCreatedAt().toString()));
+        }
+    }
+
+    // Only the leader gets here; its transaction lives as long as the rendering
+    private String render(CsvWriter report) {
+        return readOnlyTransaction.execute(status -> {
+            StringWriter out = new StringWriter();
+            try {
+                report.write(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return out.toString();
+        });
+    }
+
+    private static void row(Writer out, String... cells) throws IOException {
+        out.write(String.join(",", cells));
+        out.write('\n');
     }
 
     private static String csv(Object value) {
@@ -121,4 +197,9 @@ public class ReportService {
         String stringValue = value.toString().replace("\"", "\"\"");
         return "\"" + stringValue + "\"";
     }
+
+    @FunctionalInterface
+    private interface CsvWriter {
+        void write(Writer out) throws IOException;
+    }
 }
@@ -0,0 +1,23 @@
+package com.arcitech.reporting;
+
+import com.arcitech.user.Role;
+
+public enum ReportType {
+    PROJECTS("projects"),
+    ASSIGNMENTS("project-assignments"),
+    SERVICES("services"),
+    STAFF("staff"),
+    INQUIRIES("inquiries");
+
+    private final String baseName;
+
+    ReportType(String baseName) {
+        this.baseName = baseName;
+    }
+
+    public String fileName(Role role) {
+        return this == STAFF && role != null
+                ? role.name().toLowerCase() + "-" + baseName + ".csv"
+                : baseName + ".csv";
+    }
+}
@@ -0,0 +1,118 @@
+package com.arcitech.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves read notifications and old chat messages into their archive tables so the hot tables
+ * stay small. Each batch copies and deletes a bounded set of ids in its own transaction, and a
+ * run stops after a fixed number of batches so a large backlog is worked off over several runs.
+ *
+ * <p>Archiving is not a delete as far as clients are concerned: rows stay readable through the
+ * archive endpoints, so no tombstones are written to the delta-sync change log.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private static final String SELECT_NOTIFICATIONS = """
+            select id from user_notifications
+            where read_flag = true and created_at < :cutoff
+            order by id limit :limit
+            """;
+    private static final String ARCHIVE_NOTIFICATIONS = """
+            insert into user_notifications_archive
+                (id, recipient_id, type, title, message, project_id, task_id, read_flag, created_at, archived_at)
+            select id, recipient_id, type, title, message, project_id, task_id, read_flag, created_at, :archivedAt
+            from user_notifications where id in (:ids)
+            """;
+    private static final String DELETE_NOTIFICATIONS = "delete from user_notifications where id in (:ids)";
+
+    private static final String SELECT_CHAT = """
+            select id from chat_messages
+            where sent_at < :cutoff
+            order by id limit :limit
+            """;
+    private static final String ARCHIVE_CHAT = """
+            insert into chat_messages_archive (id, customer_id, sender_role, sender_name, message, sent_at, archived_at)
+            select id, customer_id, sender_role, sender_name, message, sent_at, :archivedAt
+            from chat_messages where id in (:ids)
+            """;
+    private static final String DELETE_CHAT = "delete from chat_messages where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration notificationAge;
+    private final Duration chatAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public RetentionService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.retention.enabled:true}") boolean enabled,
+                            @Value("${app.retention.notification-days:90}") long notificationDays,
+                            @Value("${app.retention.chat-days:365}") long chatDays,
+                            @Value("${app.retention.batch-size:1000}") int batchSize,
+                            @Value("${app.retention.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.notificationAge = Duration.ofDays(notificationDays);
+        this.chatAge = Duration.ofDays(chatDays);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${app.retention.initial-delay-ms:300000}",
+            fixedDelayString = "${app.retention.interval-ms:3600000}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        int notifications = archive(SELECT_NOTIFICATIONS, ARCHIVE_NOTIFICATIONS, DELETE_NOTIFICATIONS, now.minus(notificationAge));
+        int chatMessages = archive(SELECT_CHAT, ARCHIVE_CHAT, DELETE_CHAT, now.minus(chatAge));
+        if (notifications > 0 || chatMessages > 0) {
+            log.info("Archived {} notifications and {} chat messages", notifications, chatMessages);
+        }
+    }
+
+    private int archive(String selectSql, String copySql, String deleteSql, Instant cutoff) {
+        int moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer count = transactionTemplate.execute(status -> {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.from(cutoff))
+                        .addValue("limit", batchSize);
+                List<Long> ids = jdbcTemplate.queryForList(selectSql, params, Long.class);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                MapSqlParameterSource idParams = new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("archivedAt", Timestamp.from(Instant.now()));
+                jdbcTemplate.update(copySql, idParams);
+                jdbcTemplate.update(deleteSql, idParams);
+                return ids.size();
+            });
+            moved += count == null ? 0 : count;
+            if (count == null || count < batchSize) {
+                break;
+            }
+        }
+        return moved;
+    }
+}
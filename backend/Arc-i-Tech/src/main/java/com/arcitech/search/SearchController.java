@@ -0,0 +1,29 @@
+package com.arcitech.search;
+
+import com.arcitech.common.ApiResponse;
+import com.arcitech.common.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ApiResponse<PageResponse<SearchHit>> search(@RequestParam("q") String query,
+                                                       @RequestParam(value = "type", required = false) List<SearchDocumentType> types,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success("Search results", searchService.search(query, types, page, size));
+    }
+}
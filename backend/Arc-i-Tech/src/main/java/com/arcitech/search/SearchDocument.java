@@ -0,0 +1,48 @@
+package com.arcitech.search;
+
+import com.arcitech.admin.AdminDiscussionMessage;
+import com.arcitech.catalog.ServiceOffering;
+import com.arcitech.inquiry.Inquiry;
+import com.arcitech.project.Project;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The searchable text of one row. Terms in {@code title} rank higher than those in
+ * {@code subtitle} and {@code body}.
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        Long id,
+        String title,
+        String subtitle,
+        String body,
+        OffsetDateTime timestamp
+) {
+
+    public static SearchDocument from(Inquiry inquiry) {
+        String title = inquiry.getCompany() != null && !inquiry.getCompany().isBlank()
+                ? inquiry.getFullName() + " (" + inquiry.getCompany() + ")"
+                : inquiry.getFullName();
+        return new SearchDocument(SearchDocumentType.INQUIRY, inquiry.getId(), title,
+                inquiry.getEmail(), inquiry.getMessage(), inquiry.getCreatedAt());
+    }
+
+    public static SearchDocument from(Project project) {
+        return new SearchDocument(SearchDocumentType.PROJECT, project.getId(), project.getName(),
+                project.getSummary(), project.getDetails(), project.getCreatedAt());
+    }
+
+    public static SearchDocument from(ServiceOffering offering) {
+        String body = offering.getDetailedDescription() != null
+                ? offering.getShortDescription() + "\n" + offering.getDetailedDescription()
+                : offering.getShortDescription();
+        return new SearchDocument(SearchDocumentType.SERVICE, offering.getId(), offering.getName(),
+                offering.getCategory(), body, null);
+    }
+
+    public static SearchDocument from(AdminDiscussionMessage message) {
+        return new SearchDocument(SearchDocumentType.DISCUSSION, message.getId(), message.getSubject(),
+                message.getContext().name(), message.getMessage(), message.getCreatedAt());
+    }
+}
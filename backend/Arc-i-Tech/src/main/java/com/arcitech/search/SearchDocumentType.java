@@ -0,0 +1,8 @@
+package com.arcitech.search;
+
+public enum SearchDocumentType {
+    INQUIRY,
+    PROJECT,
+    SERVICE,
+    DISCUSSION
+}
@@ -0,0 +1,14 @@
+package com.arcitech.search;
+
+import java.time.OffsetDateTime;
+
+public record SearchHit(
+        SearchDocumentType type,
+        Long id,
+        String title,
+        String subtitle,
+        String snippet,
+        double score,
+        OffsetDateTime timestamp
+) {
+}
@@ -0,0 +1,279 @@
+package com.arcitech.search;
+
+import com.arcitech.common.AfterCommit;
+import com.arcitech.common.PageResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the admin-searchable text, ranked with BM25. Every query term must
+ * match; the last one also matches as a prefix so partially typed words find results.
+ * Writers call {@link #writeThrough} or {@link #removeAfterCommit} so the index follows committed
+ * data, and {@link SearchService} rebuilds it from the database at startup.
+ */
+@Component
+public class SearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int SNIPPET_LENGTH = 160;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<DocKey, Entry> documents = new HashMap<>();
+    private final TreeMap<String, Map<DocKey, Integer>> postings = new TreeMap<>();
+    private long totalLength;
+
+    // Keys written live while a rebuild is loading; the rebuild must not overwrite them with older rows
+    private final Set<DocKey> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    public void writeThrough(SearchDocument document) {
+        AfterCommit.run(() -> index(document));
+    }
+
+    public void removeAfterCommit(SearchDocumentType type, Long id) {
+        AfterCommit.run(() -> remove(type, id));
+    }
+
+    public void index(SearchDocument document) {
+        DocKey key = new DocKey(document.type(), document.id());
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                touchedDuringRebuild.add(key);
+            }
+            put(key, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocumentType type, Long id) {
+        DocKey key = new DocKey(type, id);
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                touchedDuringRebuild.add(key);
+            }
+            unindex(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            touchedDuringRebuild.clear();
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void load(Collection<SearchDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : batch) {
+                DocKey key = new DocKey(document.type(), document.id());
+                if (!touchedDuringRebuild.contains(key)) {
+                    put(key, document);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            touchedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PageResponse<SearchHit> search(String query, Set<SearchDocumentType> types, int page, int size) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return PageResponse.of(List.of(), 0, page, size);
+        }
+        lock.readLock().lock();
+        try {
+            Map<DocKey, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = i == terms.size() - 1;
+                Map<DocKey, Double> termScores = scoreTerm(terms.get(i), prefix, types);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((key, score) -> score + termScores.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return PageResponse.of(List.of(), 0, page, size);
+                }
+            }
+
+            List<Map.Entry<DocKey, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<DocKey, Double>comparingByValue().reversed()
+                    .thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder()));
+            // Widened so a huge page number lands past the end instead of overflowing negative
+            int from = (int) Math.min((long) page * size, ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            List<SearchHit> hits = ranked.subList(from, to).stream()
+                    .map(entry -> toHit(documents.get(entry.getKey()).document(), entry.getValue(), terms))
+                    .toList();
+            return PageResponse.of(hits, ranked.size(), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<DocKey, Double> scoreTerm(String term, boolean prefix, Set<SearchDocumentType> types) {
+        Map<DocKey, Double> scores = new HashMap<>();
+        Collection<Map.Entry<String, Map<DocKey, Integer>>> matches;
+        if (prefix) {
+            NavigableMap<String, Map<DocKey, Integer>> range = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+            matches = range.entrySet().stream().limit(MAX_PREFIX_EXPANSIONS).toList();
+        } else {
+            Map<DocKey, Integer> exact = postings.get(term);
+            matches = exact == null ? List.of() : List.of(Map.entry(term, exact));
+        }
+
+        double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+        for (Map.Entry<String, Map<DocKey, Integer>> match : matches) {
+            Map<DocKey, Integer> posting = match.getValue();
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            // Prefix expansions score a little below an exact hit on the typed word
+            double weight = match.getKey().equals(term) ? 1.0 : 0.8;
+            for (Map.Entry<DocKey, Integer> hit : posting.entrySet()) {
+                DocKey key = hit.getKey();
+                if (!types.contains(key.type())) {
+                    continue;
+                }
+                int tf = hit.getValue();
+                double norm = K1 * (1 - B + B * documents.get(key).length() / averageLength);
+                double score = weight * idf * tf * (K1 + 1) / (tf + norm);
+                scores.merge(key, score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void put(DocKey key, SearchDocument document) {
+        unindex(key);
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, document.title(), TITLE_WEIGHT);
+        addTerms(frequencies, document.subtitle(), 1);
+        addTerms(frequencies, document.body(), 1);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        frequencies.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, count));
+        documents.put(key, new Entry(document, frequencies.keySet(), length));
+        totalLength += length;
+    }
+
+    private void unindex(DocKey key) {
+        Entry previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Map<DocKey, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TERM_LENGTH) {
+                    terms.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static SearchHit toHit(SearchDocument document, double score, List<String> terms) {
+        return new SearchHit(document.type(), document.id(), document.title(), document.subtitle(),
+                snippet(document.body(), terms), Math.round(score * 1000) / 1000.0, document.timestamp());
+    }
+
+    private static String snippet(String body, List<String> terms) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        String lower = body.toLowerCase(Locale.ROOT);
+        int at = -1;
+        for (String term : terms) {
+            int found = lower.indexOf(term);
+            if (found >= 0 && (at < 0 || found < at)) {
+                at = found;
+            }
+        }
+        int start = Math.max(0, at - SNIPPET_LENGTH / 4);
+        int end = Math.min(body.length(), start + SNIPPET_LENGTH);
+        String text = body.substring(start, end).strip();
+        return (start > 0 ? "…" : "") + text + (end < body.length() ? "…" : "");
+    }
+
+    private record DocKey(SearchDocumentType type, Long id) {
+    }
+
+    private record Entry(SearchDocument document, Set<String> terms, int length) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.arcitech.search;
+
+import com.arcitech.admin.AdminDiscussionRepository;
+import com.arcitech.catalog.ServiceOfferingRepository;
+import com.arcitech.common.PageResponse;
+import com.arcitech.datasource.PrimaryReads;
+import com.arcitech.inquiry.InquiryRepository;
+import com.arcitech.project.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Answers admin searches from {@link SearchIndex} and loads the index from the database once the
+ * application is ready. Rows are read from the primary in id-ordered batches, each in its own
+ * read-only transaction; the index keeps them until the next write, so replica lag would stick.
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SearchIndex searchIndex;
+    private final InquiryRepository inquiryRepository;
+    private final ProjectRepository projectRepository;
+    private final ServiceOfferingRepository serviceOfferingRepository;
+    private final AdminDiscussionRepository discussionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public SearchService(SearchIndex searchIndex,
+                         InquiryRepository inquiryRepository,
+                         ProjectRepository projectRepository,
+                         ServiceOfferingRepository serviceOfferingRepository,
+                         AdminDiscussionRepository discussionRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.search.rebuild-batch-size:500}") int batchSize) {
+        this.searchIndex = searchIndex;
+        this.inquiryRepository = inquiryRepository;
+        this.projectRepository = projectRepository;
+        this.serviceOfferingRepository = serviceOfferingRepository;
+        this.discussionRepository = discussionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    public PageResponse<SearchHit> search(String query, Collection<SearchDocumentType> types, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        Set<SearchDocumentType> scope = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchDocumentType.class)
+                : EnumSet.copyOf(types);
+        return searchIndex.search(query, scope, page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        searchIndex.beginRebuild();
+        try {
+            PrimaryReads.run(() -> {
+                loadAll(inquiryRepository, SearchDocument::from);
+                loadAll(projectRepository, SearchDocument::from);
+                loadAll(serviceOfferingRepository, SearchDocument::from);
+                loadAll(discussionRepository, SearchDocument::from);
+            });
+        } finally {
+            searchIndex.endRebuild();
+        }
+        log.info("Search index rebuilt with {} documents in {} ms",
+                searchIndex.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private <T> void loadAll(JpaRepository<T, Long> repository, Function<T, SearchDocument> mapper) {
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by("id"));
+        while (pageable != null) {
+            Pageable current = pageable;
+            pageable = readOnlyTransaction.execute(status -> {
+                Page<T> batch = repository.findAll(current);
+                List<SearchDocument> documents = batch.map(mapper).getContent();
+                searchIndex.load(documents);
+                return batch.hasNext() ? batch.nextPageable() : null;
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.arcitech.security;
 
+import com.arcitech.observability.RequestTimings;
 import com.arcitech.user.User;
 import com.arcitech.user.UserService;
 import jakarta.servlet.FilterChain;
@@ -37,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        try {
+        try (RequestTimings.Phase ignored = RequestTimings.phase("auth")) {
             String username = jwtService.extractUsername(token);
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userService.loadUserByUsername(username);
@@ -0,0 +1,9 @@
+package com.arcitech.sync;
+
+public enum ChangeEntityType {
+    PROJECT,
+    TASK,
+    ASSIGNMENT,
+    NOTIFICATION,
+    CHAT_MESSAGE
+}
@@ -0,0 +1,56 @@
+package com.arcitech.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One row per committed write to a synced entity. The auto-increment id is the change sequence
+ * clients pass back as {@code since}. Rows are written by {@link ChangeLogRecorder} over JDBC and
+ * only read through JPA.
+ *
+ * <p>The audience columns say who may see the change: {@code projectId} for project-scoped records,
+ * {@code customerId} for a customer's chat thread and {@code recipientId} for personal records.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_created", columnList = "created_at")
+})
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    private Long projectId;
+
+    private Long customerId;
+
+    private Long recipientId;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+}
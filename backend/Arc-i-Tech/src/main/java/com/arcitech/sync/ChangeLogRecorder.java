@@ -0,0 +1,189 @@
+package com.arcitech.sync;
+
+import com.arcitech.chat.ChatMessage;
+import com.arcitech.project.Project;
+import com.arcitech.project.ProjectAssignment;
+import com.arcitech.project.ProjectTask;
+import com.arcitech.user.UserNotification;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Appends a {@link ChangeLogEntry} for every insert, update and delete of a synced entity. Changes are
+ * collected per session and batch-inserted just before the transaction commits, on the same connection,
+ * so the change log commits or rolls back with the write it describes. Rows are written after the
+ * flush and immediately before commit, which keeps the gap between sequence allocation and visibility small.
+ *
+ * <p>Writes that bypass Hibernate (JDBC batches, bulk JPQL) must call {@link #record} themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogRecorder implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String INSERT_SQL = """
+            insert into change_log (entity_type, entity_id, operation, project_id, customer_id, recipient_id, created_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<SharedSessionContractImplementor, PendingChanges> pendingBySession = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.UPSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.UPSERT);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.DELETE);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Records changes made without going through the persistence context. Must run inside the
+     * transaction that performed the write.
+     */
+    public void record(SessionImplementor session, Collection<Change> changes) {
+        if (!changes.isEmpty()) {
+            pending(session).changes.addAll(changes);
+        }
+    }
+
+    private void capture(EventSource session, Object entity, ChangeOperation operation) {
+        Change change = describe(entity, operation);
+        if (change != null) {
+            pending(session).changes.add(change);
+        }
+    }
+
+    private PendingChanges pending(SessionImplementor session) {
+        return pendingBySession.computeIfAbsent(session, key -> {
+            PendingChanges pending = new PendingChanges();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) pending);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) pending);
+            return pending;
+        });
+    }
+
+    // Only identifiers of associations are read, so uninitialised proxies are never loaded mid-flush
+    static Change describe(Object entity, ChangeOperation operation) {
+        if (entity instanceof Project project) {
+            return new Change(ChangeEntityType.PROJECT, project.getId(), operation, project.getId(), null, null);
+        }
+        if (entity instanceof ProjectTask task) {
+            return new Change(ChangeEntityType.TASK, task.getId(), operation, task.getProject().getId(), null, null);
+        }
+        if (entity instanceof ProjectAssignment assignment) {
+            return new Change(ChangeEntityType.ASSIGNMENT, assignment.getId(), operation,
+                    assignment.getProject().getId(), null, assignment.getMember().getId());
+        }
+        if (entity instanceof UserNotification notification) {
+            return new Change(ChangeEntityType.NOTIFICATION, notification.getId(), operation,
+                    null, null, notification.getRecipient().getId());
+        }
+        if (entity instanceof ChatMessage message) {
+            return new Change(ChangeEntityType.CHAT_MESSAGE, message.getId(), operation,
+                    null, message.getCustomer().getId(), null);
+        }
+        return null;
+    }
+
+    public record Change(
+            ChangeEntityType entityType,
+            Long entityId,
+            ChangeOperation operation,
+            Long projectId,
+            Long customerId,
+            Long recipientId
+    ) {
+    }
+
+    private final class PendingChanges implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final List<Change> changes = new ArrayList<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            Timestamp now = Timestamp.from(Instant.now());
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                    for (Change change : changes) {
+                        statement.setString(1, change.entityType().name());
+                        statement.setLong(2, change.entityId());
+                        statement.setString(3, change.operation().name());
+                        setNullableLong(statement, 4, change.projectId());
+                        setNullableLong(statement, 5, change.customerId());
+                        setNullableLong(statement, 6, change.recipientId());
+                        statement.setTimestamp(7, now);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+            changes.clear();
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingBySession.remove(session);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.arcitech.sync;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    @Query("""
+            select c from ChangeLogEntry c
+            where c.id > :since and c.createdAt < :horizon
+              and (c.entityType <> com.arcitech.sync.ChangeEntityType.NOTIFICATION or c.recipientId = :userId)
+            order by c.id asc
+            """)
+    List<ChangeLogEntry> findForStaff(@Param("since") long since,
+                                      @Param("horizon") OffsetDateTime horizon,
+                                      @Param("userId") Long userId,
+                                      Pageable pageable);
+
+    @Query("""
+            select c from ChangeLogEntry c
+            where c.id > :since and c.createdAt < :horizon
+              and (c.projectId in :projectIds or c.customerId = :userId or c.recipientId = :userId)
+            order by c.id asc
+            """)
+    List<ChangeLogEntry> findForMember(@Param("since") long since,
+                                       @Param("horizon") OffsetDateTime horizon,
+                                       @Param("projectIds") Collection<Long> projectIds,
+                                       @Param("userId") Long userId,
+                                       Pageable pageable);
+
+    @Query("select coalesce(max(c.id), 0) from ChangeLogEntry c")
+    long headSequence();
+
+    @Query("select min(c.id) from ChangeLogEntry c")
+    Long oldestSequence();
+
+    @Modifying
+    @Query("delete from ChangeLogEntry c where c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") OffsetDateTime cutoff);
+}
@@ -0,0 +1,6 @@
+package com.arcitech.sync;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
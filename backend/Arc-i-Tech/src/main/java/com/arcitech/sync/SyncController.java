@@ -0,0 +1,29 @@
+package com.arcitech.sync;
+
+import com.arcitech.common.ApiResponse;
+import com.arcitech.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Without {@code since}, returns only the current cursor so a client can load its dashboards and
+     * then poll for changes from that point.
+     */
+    @GetMapping
+    public ApiResponse<SyncResponse> changes(@AuthenticationPrincipal User user,
+                                             @RequestParam(required = false) Long since,
+                                             @RequestParam(required = false) Integer limit) {
+        return ApiResponse.success(syncService.changesSince(user, since, limit));
+    }
+}
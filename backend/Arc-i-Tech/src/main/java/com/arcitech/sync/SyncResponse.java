@@ -0,0 +1,37 @@
+package com.arcitech.sync;
+
+import com.arcitech.chat.ChatMessageDto;
+import com.arcitech.project.ProjectAssignmentResponse;
+import com.arcitech.project.ProjectResponse;
+import com.arcitech.user.dto.NotificationDto;
+import com.arcitech.user.dto.ProjectTaskDto;
+
+import java.util.List;
+
+/**
+ * Current state of every record visible to the caller that changed after {@code since}. Pass
+ * {@code cursor} as the next {@code since}; when {@code hasMore} is set, call again straight away.
+ * {@code resetRequired} means the requested position has been purged and the client must reload.
+ */
+public record SyncResponse(
+        long cursor,
+        boolean hasMore,
+        boolean resetRequired,
+        List<ProjectResponse> projects,
+        List<ProjectTaskDto> tasks,
+        List<ProjectAssignmentResponse> assignments,
+        List<NotificationDto> notifications,
+        List<ChatThreadMessage> chatMessages,
+        List<Tombstone> deleted
+) {
+
+    public record ChatThreadMessage(Long customerId, ChatMessageDto message) {
+    }
+
+    public record Tombstone(ChangeEntityType type, Long id) {
+    }
+
+    static SyncResponse position(long cursor, boolean resetRequired) {
+        return new SyncResponse(cursor, false, resetRequired, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,176 @@
+package com.arcitech.sync;
+
+import com.arcitech.chat.ChatMessage;
+import com.arcitech.chat.ChatMessageDto;
+import com.arcitech.chat.ChatMessageRepository;
+import com.arcitech.project.ProjectAssignmentRepository;
+import com.arcitech.project.ProjectAssignmentResponse;
+import com.arcitech.project.ProjectRepository;
+import com.arcitech.project.ProjectResponse;
+import com.arcitech.project.ProjectTaskService;
+import com.arcitech.user.NotificationService;
+import com.arcitech.user.Role;
+import com.arcitech.user.User;
+import com.arcitech.user.dto.NotificationDto;
+import com.arcitech.user.dto.ProjectTaskDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Serves the delta-sync feed: reads the change log after a client's cursor, keeps the changes the
+ * caller may see, and returns the current state of each touched record.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAssignmentRepository projectAssignmentRepository;
+    private final ProjectTaskService projectTaskService;
+    private final NotificationService notificationService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final int maxBatch;
+    private final Duration settle;
+    private final Duration retention;
+
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       ProjectRepository projectRepository,
+                       ProjectAssignmentRepository projectAssignmentRepository,
+                       ProjectTaskService projectTaskService,
+                       NotificationService notificationService,
+                       ChatMessageRepository chatMessageRepository,
+                       @Value("${app.sync.max-batch:500}") int maxBatch,
+                       @Value("${app.sync.settle-ms:1000}") long settleMs,
+                       @Value("${app.sync.retention-hours:72}") long retentionHours) {
+        this.changeLogRepository = changeLogRepository;
+        this.projectRepository = projectRepository;
+        this.projectAssignmentRepository = projectAssignmentRepository;
+        this.projectTaskService = projectTaskService;
+        this.notificationService = notificationService;
+        this.chatMessageRepository = chatMessageRepository;
+        this.maxBatch = maxBatch;
+        this.settle = Duration.ofMillis(settleMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    public SyncResponse changesSince(User user, Long since, Integer limit) {
+        if (since == null) {
+            return SyncResponse.position(changeLogRepository.headSequence(), false);
+        }
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        int batch = limit == null ? maxBatch : Math.max(1, Math.min(limit, maxBatch));
+
+        Long oldest = changeLogRepository.oldestSequence();
+        if (oldest != null && since < oldest - 1) {
+            return SyncResponse.position(changeLogRepository.headSequence(), true);
+        }
+
+        // Sequence numbers are allocated just before commit; the settle window keeps a slower commit
+        // with a lower number from landing behind a cursor that has already moved past it
+        OffsetDateTime horizon = OffsetDateTime.now().minus(settle);
+        PageRequest page = PageRequest.of(0, batch + 1);
+        List<ChangeLogEntry> entries = isStaff(user)
+                ? changeLogRepository.findForStaff(since, horizon, user.getId(), page)
+                : changeLogRepository.findForMember(since, horizon, visibleProjectIds(user), user.getId(), page);
+
+        boolean hasMore = entries.size() > batch;
+        if (hasMore) {
+            entries = entries.subList(0, batch);
+        }
+        long cursor = entries.isEmpty() ? since : entries.get(entries.size() - 1).getId();
+
+        // Only the latest operation per record matters
+        Map<ChangeEntityType, Map<Long, ChangeOperation>> latest = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeLogEntry entry : entries) {
+            latest.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>())
+                    .put(entry.getEntityId(), entry.getOperation());
+        }
+
+        List<SyncResponse.Tombstone> deleted = new ArrayList<>();
+        List<ProjectResponse> projects = load(latest, ChangeEntityType.PROJECT, deleted,
+                ids -> projectRepository.findAllById(ids).stream().map(ProjectResponse::from).toList());
+        List<ProjectTaskDto> tasks = load(latest, ChangeEntityType.TASK, deleted,
+                projectTaskService::tasksByIds);
+        List<ProjectAssignmentResponse> assignments = load(latest, ChangeEntityType.ASSIGNMENT, deleted,
+                ids -> projectAssignmentRepository.findAllById(ids).stream().map(ProjectAssignmentResponse::from).toList());
+        List<NotificationDto> notifications = load(latest, ChangeEntityType.NOTIFICATION, deleted,
+                ids -> notificationService.notificationsByIds(user, ids));
+        List<SyncResponse.ChatThreadMessage> chatMessages = load(latest, ChangeEntityType.CHAT_MESSAGE, deleted,
+                ids -> chatMessageRepository.findAllById(ids).stream().map(SyncService::toThreadMessage).toList());
+
+        return new SyncResponse(cursor, hasMore, false, projects, tasks, assignments, notifications, chatMessages, deleted);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = changeLogRepository.deleteOlderThan(OffsetDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("Purged {} change log entries older than {}", removed, retention);
+        }
+    }
+
+    private Collection<Long> visibleProjectIds(User user) {
+        List<Long> projectIds = user.getRole() == Role.CUSTOMER
+                ? projectRepository.findIdsByClientId(user.getId())
+                : projectAssignmentRepository.findProjectIdsByMemberId(user.getId());
+        // An empty IN list is not portable SQL; no project has id -1
+        return projectIds.isEmpty() ? List.of(-1L) : projectIds;
+    }
+
+    private static boolean isStaff(User user) {
+        return user.getRole() == Role.SUPER_ADMIN || user.getRole() == Role.SUB_ADMIN;
+    }
+
+    /**
+     * Loads the current state of the records upserted in this batch. Only logged deletes become
+     * tombstones. An upserted record that is gone by the time of this read is left out: either its
+     * delete is further along the log, or retention moved it to an archive table, which clients
+     * must not mistake for a delete.
+     */
+    private static <T> List<T> load(Map<ChangeEntityType, Map<Long, ChangeOperation>> latest,
+                                    ChangeEntityType type,
+                                    List<SyncResponse.Tombstone> deleted,
+                                    Function<Collection<Long>, List<T>> loader) {
+        Map<Long, ChangeOperation> changes = latest.getOrDefault(type, Map.of());
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> upserted = new HashSet<>();
+        changes.forEach((id, operation) -> {
+            if (operation == ChangeOperation.UPSERT) {
+                upserted.add(id);
+            } else {
+                deleted.add(new SyncResponse.Tombstone(type, id));
+            }
+        });
+        if (upserted.isEmpty()) {
+            return List.of();
+        }
+        return loader.apply(upserted);
+    }
+
+    private static SyncResponse.ChatThreadMessage toThreadMessage(ChatMessage message) {
+        return new SyncResponse.ChatThreadMessage(message.getCustomer().getId(), ChatMessageDto.from(message));
+    }
+}
@@ -0,0 +1,60 @@
+package com.arcitech.user;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cold copy of a read notification moved out of {@code user_notifications} by the retention job.
+ * Keeps the original id; references are plain ids so archived rows never block deletes elsewhere.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_notifications_archive", indexes = {
+        @Index(name = "idx_notification_archive_recipient_created", columnList = "recipient_id, created_at")
+})
+public class ArchivedNotification {
+
+    @Id
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 40)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 2000)
+    private String message;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(nullable = false)
+    private boolean readFlag;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,28 @@
+package com.arcitech.user;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ArchivedNotificationRepository extends JpaRepository<ArchivedNotification, Long> {
+
+    // Newest-first keyset page over idx_notification_archive_recipient_created
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select n from ArchivedNotification n
+            where n.recipientId = :recipientId
+              and (n.createdAt < :beforeCreatedAt or (n.createdAt = :beforeCreatedAt and n.id < :beforeId))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<ArchivedNotification> findPage(@Param("recipientId") Long recipientId,
+                                        @Param("beforeCreatedAt") OffsetDateTime beforeCreatedAt,
+                                        @Param("beforeId") long beforeId,
+                                        Pageable pageable);
+}
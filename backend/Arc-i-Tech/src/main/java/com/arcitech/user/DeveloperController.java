@@ -1,8 +1,6 @@
 package com.arcitech.user;
 
 import com.arcitech.common.ApiResponse;
-import com.arcitech.project.ProjectAssignment;
-import com.arcitech.project.ProjectAssignmentRepository;
 import com.arcitech.project.ProjectResponse;
 import com.arcitech.user.dto.DeveloperWorkspaceResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,17 +18,11 @@ import java.util.List;
 @PreAuthorize("hasRole('DEVELOPER')")
 public class DeveloperController {
 
-    private final ProjectAssignmentRepository projectAssignmentRepository;
     private final DeveloperWorkspaceService developerWorkspaceService;
 
     @GetMapping("/projects")
     public ApiResponse<List<ProjectResponse>> projects(@AuthenticationPrincipal User developer) {
-        List<ProjectResponse> responses = projectAssignmentRepository.findByMemberId(developer.getId()).stream()
-                .map(ProjectAssignment::getProject)
-                .distinct()
-                .map(ProjectResponse::from)
-                .toList();
-        return ApiResponse.success("Assigned projects", responses);
+        return ApiResponse.success("Assigned projects", developerWorkspaceService.assignedProjects(developer));
     }
 
     @GetMapping("/workspace")
@@ -1,6 +1,7 @@
 package com.arcitech.user;
 
 import com.arcitech.inquiry.InquiryService;
+import com.arcitech.observability.RequestTimings;
 import com.arcitech.inquiry.InquiryResponse;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectAssignment;
@@ -16,9 +17,9 @@ import com.arcitech.user.dto.ProjectTaskDto;
 import com.arcitech.user.dto.ProjectTimelineEventDto;
 import com.arcitech.user.dto.TaskBoardResponse;
 import com.arcitech.user.dto.StaffSummary;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Comparator;
@@ -33,7 +34,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(Transactional.TxType.SUPPORTS)
+@Transactional(readOnly = true)
 public class DeveloperWorkspaceService {
 
     private final ProjectTaskService projectTaskService;
@@ -42,7 +43,19 @@ public class DeveloperWorkspaceService {
     private final InquiryService inquiryService;
     private final NotificationService notificationService;
 
+    public List<ProjectResponse> assignedProjects(User developer) {
+        return projectAssignments(developer).stream()
+                .map(ProjectResponse::from)
+                .toList();
+    }
+
     public DeveloperWorkspaceResponse buildWorkspace(User developer) {
+        try (RequestTimings.Phase ignored = RequestTimings.phase("workspace")) {
+            return assembleWorkspace(developer);
+        }
+    }
+
+    private DeveloperWorkspaceResponse assembleWorkspace(User developer) {
         List<ProjectTaskDto> tasks = projectTaskService.tasksForDeveloper(developer);
         Map<TaskStatus, List<ProjectTaskDto>> grouped = tasks.stream()
                 .collect(Collectors.groupingBy(ProjectTaskDto::status, () -> new EnumMap<>(TaskStatus.class), Collectors.toList()));
@@ -101,6 +114,7 @@ public class DeveloperWorkspaceService {
                                     map -> new ArrayList<>(map.values())
                             ));
 
+                    // Scoped to the developer's own tasks like the other figures in the summary
                     int computedProgress = total == 0
                             ? projectResponse.progressPercentage()
                             : (int) Math.round((completed * 100.0) / total);
@@ -1,6 +1,7 @@
 package com.arcitech.user;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.CursorPage;
 import com.arcitech.user.dto.NotificationDto;
 import com.arcitech.user.dto.NotificationFeedResponse;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,6 +31,13 @@ public class NotificationController {
                 ));
     }
 
+    @GetMapping("/archive")
+    public ApiResponse<CursorPage<NotificationDto>> archive(@AuthenticationPrincipal User user,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        return ApiResponse.success("Archived notifications", notificationService.archivedNotifications(user, cursor, size));
+    }
+
     @PostMapping("/read-all")
     public ApiResponse<Void> markAllRead(@AuthenticationPrincipal User user) {
         notificationService.markAllRead(user);
@@ -1,12 +1,16 @@
 package com.arcitech.user;
 
+import com.arcitech.common.CursorPage;
+import com.arcitech.common.KeysetCursor;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectTask;
 import com.arcitech.user.dto.NotificationDto;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,7 +19,10 @@ import java.util.stream.Collectors;
 @Transactional
 public class NotificationService {
 
+    private static final int MAX_ARCHIVE_PAGE_SIZE = 100;
+
     private final UserNotificationRepository notificationRepository;
+    private final ArchivedNotificationRepository archivedNotificationRepository;
 
     public void notifyTaskAssigned(User recipient, ProjectTask task, User actor) {
         UserNotification notification = UserNotification.builder()
@@ -55,12 +62,50 @@ public class NotificationService {
         notificationRepository.save(notification);
     }
 
+    public void notifyBatch(List<UserNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notificationRepository.saveAll(notifications);
+    }
+
+    @Transactional(readOnly = true)
     public List<NotificationDto> getNotifications(User user) {
         return notificationRepository.findByRecipientOrderByCreatedAtDesc(user).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<NotificationDto> notificationsByIds(User user, Collection<Long> notificationIds) {
+        return notificationRepository.findAllById(notificationIds).stream()
+                .filter(notification -> notification.getRecipient().getId().equals(user.getId()))
+                .map(this::toDto)
+                .toList();
+    }
+
+    /**
+     * Older notifications moved to the archive by the retention job, newest first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDto> archivedNotifications(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ARCHIVE_PAGE_SIZE));
+        KeysetCursor before = cursor == null || cursor.isBlank() ? KeysetCursor.end() : KeysetCursor.decode(cursor);
+        List<ArchivedNotification> rows = archivedNotificationRepository.findPage(user.getId(),
+                before.offsetDateTime(), before.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.getCreatedAt(), row.getId()))
+                .map(row -> new NotificationDto(
+                        row.getId(),
+                        row.getType(),
+                        row.getTitle(),
+                        row.getMessage(),
+                        row.isReadFlag(),
+                        row.getCreatedAt(),
+                        row.getProjectId(),
+                        row.getTaskId()));
+    }
+
+    @Transactional(readOnly = true)
     public long unreadCount(User user) {
         return notificationRepository.countByRecipientAndReadFlagIsFalse(user);
     }
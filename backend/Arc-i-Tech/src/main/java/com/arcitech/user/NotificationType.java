@@ -7,5 +7,7 @@ public enum NotificationType {
     INQUIRY_SUBMITTED,
     PROJECT_NOTE,
     PROJECT_COMPLETED,
+    ACCESS_DECISION,
+    ANNOUNCEMENT,
     CUSTOM
 }
@@ -1,12 +1,12 @@
 package com.arcitech.user;
 
+import com.arcitech.common.SingleFlight;
+import com.arcitech.observability.RequestTimings;
 import com.arcitech.project.Project;
 import com.arcitech.project.ProjectAssignment;
 import com.arcitech.project.ProjectAssignmentRepository;
 import com.arcitech.project.ProjectRepository;
-import com.arcitech.project.ProjectTask;
-import com.arcitech.project.ProjectTaskRepository;
-import com.arcitech.project.TaskStatus;
+import com.arcitech.project.ProjectTaskCounts;
 import com.arcitech.user.dto.CustomerTreeNode;
 import com.arcitech.user.dto.ProjectTeamNode;
 import com.arcitech.user.dto.RelationshipGraphResponse;
@@ -14,9 +14,11 @@ import com.arcitech.user.dto.StaffSummary;
 import com.arcitech.user.dto.SubAdminRelationshipResponse;
 import com.arcitech.user.Role;
 import com.arcitech.user.User;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -29,30 +31,53 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(Transactional.TxType.SUPPORTS)
+@Transactional(readOnly = true)
 public class RelationshipGraphService {
 
     private final ProjectRepository projectRepository;
     private final ProjectAssignmentRepository projectAssignmentRepository;
-    private final ProjectTaskRepository projectTaskRepository;
     private final UserRepository userRepository;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RelationshipGraphService(ProjectRepository projectRepository,
+                                    ProjectAssignmentRepository projectAssignmentRepository,
+                                    UserRepository userRepository,
+                                    SingleFlight singleFlight,
+                                    PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.projectAssignmentRepository = projectAssignmentRepository;
+        this.userRepository = userRepository;
+        this.singleFlight = singleFlight;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
+    /**
+     * Shared between concurrent callers and reused for the single-flight TTL, so assignment
+     * changes can take that long to show up. Runs outside a transaction so that callers waiting
+     * on the shared build hold no connection; only the build itself opens one.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RelationshipGraphResponse buildOrganizationTree() {
-        List<Project> projects = projectRepository.findAll();
-        List<ProjectAssignment> assignments = projectAssignmentRepository.findAll();
-        List<ProjectTask> tasks = projectTaskRepository.findAll();
+        try (RequestTimings.Phase ignored = RequestTimings.phase("orgTree")) {
+            return singleFlight.runCached("relationships:organization",
+                    () -> readOnlyTransaction.execute(status -> assembleOrganizationTree()));
+        }
+    }
+
+    private RelationshipGraphResponse assembleOrganizationTree() {
+        // Archived projects are finished work and stay out of the live organisation tree
+        List<Project> projects = projectRepository.findByArchivedFalseOrderByUpdatedAtDesc();
+        List<ProjectAssignment> assignments = projectAssignmentRepository.findByProjectArchivedFalse();
 
         Map<Long, List<ProjectAssignment>> assignmentsByProject = assignments.stream()
                 .collect(Collectors.groupingBy(pa -> pa.getProject().getId()));
-        Map<Long, List<ProjectTask>> tasksByProject = tasks.stream()
-                .collect(Collectors.groupingBy(task -> task.getProject().getId()));
 
         Map<Long, ProjectTeamNode> projectNodes = new LinkedHashMap<>();
         for (Project project : projects) {
             List<ProjectAssignment> projectAssignments = assignmentsByProject.getOrDefault(project.getId(), List.of());
-            List<ProjectTask> projectTasks = tasksByProject.getOrDefault(project.getId(), List.of());
-            projectNodes.put(project.getId(), toProjectTeamNode(project, projectAssignments, projectTasks));
+            projectNodes.put(project.getId(), toProjectTeamNode(project, projectAssignments));
         }
 
         Map<Long, List<ProjectTeamNode>> projectsByCustomer = projectNodes.values().stream()
@@ -118,14 +143,9 @@ public class RelationshipGraphService {
 
     public CustomerTreeNode buildCustomerTree(User customer) {
         List<Project> projects = projectRepository.findByClientOrderByUpdatedAtDesc(customer);
-        Map<Long, List<ProjectTask>> tasksByProject = projectTaskRepository.findAll().stream()
-                .collect(Collectors.groupingBy(task -> task.getProject().getId()));
 
         List<ProjectTeamNode> nodes = projects.stream()
-                .map(project -> toProjectTeamNode(
-                        project,
-                        projectAssignmentRepository.findByProject(project),
-                        tasksByProject.getOrDefault(project.getId(), List.of())))
+                .map(project -> toProjectTeamNode(project, projectAssignmentRepository.findByProject(project)))
                 .toList();
         return new CustomerTreeNode(StaffSummary.from(customer), nodes);
     }
@@ -134,22 +154,15 @@ public class RelationshipGraphService {
         List<ProjectAssignment> assignments = projectAssignmentRepository.findByMember(subAdmin);
         Map<Long, List<ProjectAssignment>> grouped = assignments.stream()
                 .collect(Collectors.groupingBy(pa -> pa.getProject().getId()));
-        Map<Long, List<ProjectTask>> tasksByProject = projectTaskRepository.findAll().stream()
-                .collect(Collectors.groupingBy(task -> task.getProject().getId()));
 
         List<ProjectTeamNode> nodes = grouped.entrySet().stream()
-                .map(entry -> toProjectTeamNode(
-                        entry.getValue().get(0).getProject(),
-                        entry.getValue(),
-                        tasksByProject.getOrDefault(entry.getKey(), List.of())))
+                .map(entry -> toProjectTeamNode(entry.getValue().get(0).getProject(), entry.getValue()))
                 .sorted(Comparator.comparing(ProjectTeamNode::name, String.CASE_INSENSITIVE_ORDER))
                 .toList();
         return new SubAdminRelationshipResponse(StaffSummary.from(subAdmin), nodes);
     }
 
-    private ProjectTeamNode toProjectTeamNode(Project project,
-                                              List<ProjectAssignment> assignments,
-                                              List<ProjectTask> tasks) {
+    private ProjectTeamNode toProjectTeamNode(Project project, List<ProjectAssignment> assignments) {
         List<ProjectAssignment> safeAssignments = assignments == null ? List.of() : assignments;
 
         Map<Boolean, List<ProjectAssignment>> grouped = safeAssignments.stream()
@@ -175,10 +188,7 @@ public class RelationshipGraphService {
         StaffSummary customer = project.getClient() != null ? StaffSummary.from(project.getClient()) : null;
         String targetDate = project.getTargetDate() != null ? project.getTargetDate().toString() : null;
 
-        int totalTasks = tasks == null ? 0 : tasks.size();
-        int completedTasks = tasks == null ? 0 :
-                (int) tasks.stream().filter(task -> task.getStatus() == TaskStatus.DONE).count();
-        int openTasks = totalTasks - completedTasks;
+        ProjectTaskCounts taskCounts = project.taskCounts();
 
         return new ProjectTeamNode(
                 project.getId(),
@@ -190,9 +200,9 @@ public class RelationshipGraphService {
                 customer,
                 subAdmins,
                 developers,
-                totalTasks,
-                openTasks,
-                completedTasks
+                taskCounts.total(),
+                taskCounts.open(),
+                taskCounts.done()
         );
     }
 }
@@ -1,6 +1,7 @@
 package com.arcitech.user;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.ConditionalGet;
 import com.arcitech.user.dto.RelationshipGraphResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,12 +38,18 @@ public class SuperAdminController {
     }
 
     @GetMapping("/staff/sub-admins")
-    public ApiResponse<List<UserProfile>> listSubAdmins() {
+    public ApiResponse<List<UserProfile>> listSubAdmins(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "users:" + Role.SUB_ADMIN, userService.rosterVersion(Role.SUB_ADMIN))) {
+            return null;
+        }
         return ApiResponse.success("Sub-admin roster", userService.getSubAdmins());
     }
 
     @GetMapping("/staff/developers")
-    public ApiResponse<List<UserProfile>> listDevelopers() {
+    public ApiResponse<List<UserProfile>> listDevelopers(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "users:" + Role.DEVELOPER, userService.rosterVersion(Role.DEVELOPER))) {
+            return null;
+        }
         return ApiResponse.success("Developer roster", userService.getDevelopers());
     }
 
@@ -1,6 +1,7 @@
 package com.arcitech.user;
 
 import com.arcitech.common.ApiResponse;
+import com.arcitech.common.ConditionalGet;
 import com.arcitech.user.dto.CustomerTreeNode;
 import com.arcitech.user.dto.SubAdminRelationshipResponse;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -45,7 +47,10 @@ public class UserController {
 
     @GetMapping("/admin/users")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','SUB_ADMIN')")
-    public ApiResponse<List<UserProfile>> customers() {
+    public ApiResponse<List<UserProfile>> customers(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "users:" + Role.CUSTOMER, userService.rosterVersion(Role.CUSTOMER))) {
+            return null;
+        }
         return ApiResponse.success("Fetched customers", userService.getCustomers());
     }
 
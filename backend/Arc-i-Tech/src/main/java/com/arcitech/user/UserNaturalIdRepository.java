@@ -0,0 +1,12 @@
+package com.arcitech.user;
+
+import java.util.Optional;
+
+/**
+ * Email lookups through Hibernate's natural-id API, which resolves from the second-level cache
+ * instead of running a query for every authenticated request.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByNaturalEmail(String email);
+}
@@ -0,0 +1,25 @@
+package com.arcitech.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Locale;
+import java.util.Optional;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByNaturalEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        // Emails are stored lower-cased, and the natural-id cache is keyed on the exact value
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email.trim().toLowerCase(Locale.ROOT));
+    }
+}
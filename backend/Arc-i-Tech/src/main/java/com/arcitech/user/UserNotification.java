@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
 
@@ -28,7 +30,9 @@ public class UserNotification {
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient;
 
+    // Plain varchar rather than MySQL's native enum, so new NotificationType values need no ALTER
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 40)
     private NotificationType type;
 
@@ -1,12 +1,23 @@
 package com.arcitech.user;
 
+import com.arcitech.common.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<User> findByRole(Role role);
+
+    @Query("select new com.arcitech.common.ResourceVersion(count(u), max(u.updatedAt)) from User u where u.role = :role")
+    ResourceVersion versionForRole(@Param("role") Role role);
 }
@@ -1,9 +1,12 @@
 package com.arcitech.user;
 
+import com.arcitech.audit.AuditAction;
+import com.arcitech.audit.AuditLog;
+import com.arcitech.audit.AuditTargetType;
+import com.arcitech.common.ResourceVersion;
 import com.arcitech.user.dto.UserManagementRequest;
 import com.arcitech.user.dto.UserStatusUpdateRequest;
 import com.arcitech.user.dto.UserUpdateRequest;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,7 +14,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -24,17 +29,21 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditLog auditLog;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
+        return userRepository.findByNaturalEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userRepository.findByNaturalEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public List<UserProfile> listStaff() {
         return userRepository.findAll().stream()
                 .filter(user -> user.getRole() == Role.SUB_ADMIN || user.getRole() == Role.DEVELOPER)
@@ -42,6 +51,7 @@ public class UserService implements UserDetailsService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<UserProfile> listByRole(Role role) {
         return userRepository.findByRole(role).stream()
                 .map(UserProfile::from)
@@ -61,32 +71,43 @@ public class UserService implements UserDetailsService {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new IllegalArgumentException("An account with that email already exists.");
         }
-        return UserProfile.from(userRepository.save(user));
+        User saved = userRepository.save(user);
+        auditLog.record(actor, AuditAction.USER_CREATED, AuditTargetType.USER, saved.getId(), "role=" + saved.getRole());
+        return UserProfile.from(saved);
     }
 
     public UserProfile updateUser(Long userId, UserUpdateRequest request, User actor) {
         User target = getUserById(userId);
         validateManage(actor, target);
 
+        List<String> changed = new ArrayList<>();
         if (request.fullName() != null && !request.fullName().isBlank()) {
             target.setFullName(request.fullName().trim());
+            changed.add("fullName");
         }
         if (request.email() != null) {
             String email = request.email().trim().toLowerCase();
             if (!email.equalsIgnoreCase(target.getEmail()) && userRepository.existsByEmail(email)) {
                 throw new IllegalArgumentException("Another user with that email already exists.");
             }
+            if (!email.equals(target.getEmail())) {
+                changed.add("email");
+            }
             target.setEmail(email);
         }
         if (request.password() != null && !request.password().isBlank()) {
             target.setPassword(passwordEncoder.encode(request.password()));
+            changed.add("password");
         }
         if (request.role() != null && request.role() != target.getRole()) {
             validateRoleTransition(actor, target, request.role());
+            changed.add("role " + target.getRole() + " -> " + request.role());
             target.setRole(request.role());
         }
 
-        return UserProfile.from(userRepository.save(target));
+        User saved = userRepository.save(target);
+        auditLog.record(actor, AuditAction.USER_UPDATED, AuditTargetType.USER, saved.getId(), String.join(", ", changed));
+        return UserProfile.from(saved);
     }
 
     public UserProfile updateStatus(Long userId, UserStatusUpdateRequest request, User actor) {
@@ -94,13 +115,17 @@ public class UserService implements UserDetailsService {
         validateManage(actor, target);
         boolean active = Boolean.TRUE.equals(request.active());
         target.setActive(active);
-        return UserProfile.from(userRepository.save(target));
+        User saved = userRepository.save(target);
+        auditLog.record(actor, AuditAction.USER_STATUS_CHANGED, AuditTargetType.USER, saved.getId(), "active=" + active);
+        return UserProfile.from(saved);
     }
 
     public void deleteUser(Long userId, User actor) {
         User target = getUserById(userId);
         validateDeletion(actor, target);
         userRepository.delete(target);
+        // The entry keeps the address because the account it points at is gone
+        auditLog.record(actor, AuditAction.USER_DELETED, AuditTargetType.USER, userId, target.getEmail());
     }
 
     public User createCustomer(String fullName, String email, String rawPassword) {
@@ -118,7 +143,7 @@ public class UserService implements UserDetailsService {
     }
 
     public User createAdminIfMissing(String fullName, String email, String rawPassword) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalEmail(email)
                 .orElseGet(() -> {
                     User admin = User.builder()
                             .fullName(fullName)
@@ -160,18 +185,27 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
+    @Transactional(readOnly = true)
     public List<UserProfile> getSubAdmins() {
         return listByRole(Role.SUB_ADMIN);
     }
 
+    @Transactional(readOnly = true)
     public List<UserProfile> getDevelopers() {
         return listByRole(Role.DEVELOPER);
     }
 
+    @Transactional(readOnly = true)
     public List<UserProfile> getCustomers() {
         return listByRole(Role.CUSTOMER);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion rosterVersion(Role role) {
+        return userRepository.versionForRole(role);
+    }
+
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id " + id));
@@ -0,0 +1,131 @@
+package com.arcitech.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Single-threaded tests act as both producer and consumer; the concurrent test keeps the
+ * single-consumer rule by draining only from the test thread.
+ */
+class AuditRingBufferTests {
+
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new AuditRingBuffer<Integer>(8).capacity());
+        assertEquals(1024, new AuditRingBuffer<Integer>(1000).capacity());
+        assertEquals(4, new AuditRingBuffer<Integer>(1).capacity());
+    }
+
+    @Test
+    void rejectsOffersOnceFullUntilTheConsumerDrains() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(1, buffer.drainTo(drained, 1));
+        assertTrue(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+    }
+
+    @Test
+    void keepsOrderAcrossWraparound() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        // Fills of 1-4 against drains of 3 move head and tail past the end of the array many times, sometimes filling it
+        for (int round = 0; round < 25; round++) {
+            int fill = 1 + round % 4;
+            for (int i = 0; i < fill; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            buffer.drainTo(drained, 3);
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertEquals(next, drained.size());
+        for (int i = 0; i < next; i++) {
+            assertEquals(i, drained.get(i));
+        }
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void drainToStopsAtTheLimit() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(16);
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        assertEquals(4, buffer.drainTo(batch, 4));
+        assertEquals(List.of(0, 1, 2, 3), batch);
+        assertEquals(6, buffer.size());
+        assertEquals(6, buffer.drainTo(batch, 100));
+        assertEquals(0, buffer.drainTo(batch, 100));
+    }
+
+    @Test
+    void concurrentProducersLoseNothingWhileTheConsumerDrains() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        start.countDown();
+
+        List<Integer> drained = new ArrayList<>(producers * perProducer);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (drained.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drainTo(drained, 32);
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(producers * perProducer, drained.size());
+        Set<Integer> unique = new HashSet<>(drained);
+        assertEquals(producers * perProducer, unique.size());
+        // Each producer's own items come out in the order it offered them
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        for (int value : drained) {
+            int producer = value / perProducer;
+            assertTrue(value > lastSeen[producer]);
+            lastSeen[producer] = value;
+        }
+    }
+}
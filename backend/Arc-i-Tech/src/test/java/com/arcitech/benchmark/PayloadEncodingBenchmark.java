@@ -0,0 +1,183 @@
+package com.arcitech.benchmark;
+
+import com.arcitech.config.MessageEncodingConfig;
+import com.arcitech.inquiry.InquiryResponse;
+import com.arcitech.inquiry.InquiryStatus;
+import com.arcitech.project.ProjectResponse;
+import com.arcitech.project.ProjectStatus;
+import com.arcitech.project.ProjectTaskCounts;
+import com.arcitech.project.TaskPriority;
+import com.arcitech.project.TaskStatus;
+import com.arcitech.project.TimelineEventType;
+import com.arcitech.user.NotificationType;
+import com.arcitech.user.Role;
+import com.arcitech.user.dto.CustomerTreeNode;
+import com.arcitech.user.dto.DeveloperProjectSummary;
+import com.arcitech.user.dto.DeveloperWorkspaceResponse;
+import com.arcitech.user.dto.NotificationDto;
+import com.arcitech.user.dto.ProjectTaskDto;
+import com.arcitech.user.dto.ProjectTeamNode;
+import com.arcitech.user.dto.ProjectTimelineEventDto;
+import com.arcitech.user.dto.RelationshipGraphResponse;
+import com.arcitech.user.dto.StaffSummary;
+import com.arcitech.user.dto.SubAdminRelationshipResponse;
+import com.arcitech.user.dto.TaskBoardResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares serialization CPU time and encoded size of the large dashboard payloads in JSON, Smile and
+ * CBOR, raw and gzipped. Not a unit test; run the main method from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.arcitech.benchmark.PayloadEncodingBenchmark}.
+ */
+public final class PayloadEncodingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    private PayloadEncodingBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", mapper(Jackson2ObjectMapperBuilder.json()));
+        mappers.put("smile", mapper(Jackson2ObjectMapperBuilder.json().factory(MessageEncodingConfig.smileFactory())));
+        mappers.put("cbor", mapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())));
+
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        payloads.put("RelationshipGraphResponse", relationshipGraph(40, 6, 25));
+        payloads.put("DeveloperWorkspaceResponse", workspace(12, 150));
+        payloads.put("TaskBoardResponse", taskBoard(200));
+
+        System.out.printf("%-28s %-6s %12s %12s %12s%n", "payload", "format", "bytes", "gzip bytes", "us/op");
+        for (Map.Entry<String, Object> payload : payloads.entrySet()) {
+            for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+                ObjectMapper objectMapper = mapper.getValue();
+                Object value = payload.getValue();
+                for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                    objectMapper.writeValueAsBytes(value);
+                }
+                long started = System.nanoTime();
+                byte[] encoded = null;
+                for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                    encoded = objectMapper.writeValueAsBytes(value);
+                }
+                double microsPerOp = (System.nanoTime() - started) / 1_000.0 / MEASURED_ITERATIONS;
+                System.out.printf("%-28s %-6s %12d %12d %12.1f%n",
+                        payload.getKey(), mapper.getKey(), encoded.length, gzipSize(encoded), microsPerOp);
+            }
+        }
+    }
+
+    private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        // Mirrors Spring Boot's defaults for the application's JSON mapper
+        return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static RelationshipGraphResponse relationshipGraph(int customers, int subAdmins, int developers) {
+        List<StaffSummary> subAdminStaff = staff(subAdmins, Role.SUB_ADMIN, 1_000);
+        List<StaffSummary> developerStaff = staff(developers, Role.DEVELOPER, 2_000);
+        List<CustomerTreeNode> customerTrees = new ArrayList<>();
+        List<ProjectTeamNode> allProjects = new ArrayList<>();
+        for (int c = 0; c < customers; c++) {
+            StaffSummary customer = new StaffSummary((long) c, "Customer " + c, "customer" + c + "@example.com", Role.CUSTOMER);
+            List<ProjectTeamNode> projects = new ArrayList<>();
+            for (int p = 0; p < 3; p++) {
+                long projectId = c * 10L + p;
+                ProjectTeamNode node = new ProjectTeamNode(projectId, "Project " + projectId, ProjectStatus.IN_DEVELOPMENT,
+                        45, "Customer portal rebuild with analytics and integrations", LocalDate.now().plusMonths(2).toString(),
+                        customer,
+                        List.of(subAdminStaff.get((int) (projectId % subAdmins))),
+                        List.of(developerStaff.get((int) (projectId % developers)),
+                                developerStaff.get((int) ((projectId + 1) % developers)),
+                                developerStaff.get((int) ((projectId + 2) % developers))),
+                        24, 15, 9);
+                projects.add(node);
+                allProjects.add(node);
+            }
+            customerTrees.add(new CustomerTreeNode(customer, projects));
+        }
+        List<SubAdminRelationshipResponse> subAdminTrees = subAdminStaff.stream()
+                .map(subAdmin -> new SubAdminRelationshipResponse(subAdmin, allProjects.stream()
+                        .filter(node -> node.subAdmins().contains(subAdmin))
+                        .toList()))
+                .toList();
+        return new RelationshipGraphResponse(customerTrees, subAdminTrees, List.of(), developerStaff.subList(0, 3), List.of());
+    }
+
+    private static DeveloperWorkspaceResponse workspace(int projects, int tasks) {
+        StaffSummary developer = new StaffSummary(2_000L, "Developer Zero", "dev0@example.com", Role.DEVELOPER);
+        TaskBoardResponse board = taskBoard(tasks);
+        OffsetDateTime now = OffsetDateTime.now();
+        List<ProjectResponse> assigned = new ArrayList<>();
+        List<DeveloperProjectSummary> summaries = new ArrayList<>();
+        for (int p = 0; p < projects; p++) {
+            ProjectResponse project = new ProjectResponse((long) p, "Project " + p, "Customer portal rebuild",
+                    "Long form project brief ".repeat(20), ProjectStatus.IN_DEVELOPMENT, 40, false,
+                    new ProjectTaskCounts(6, 4, 2, 1, 9), LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(2),
+                    false, false, 10L + p, "Customer " + p, now, now);
+            assigned.add(project);
+            summaries.add(new DeveloperProjectSummary(project, 22, 9, 6, 1, 6, board.todo().subList(0, 5), 41, List.of(developer)));
+        }
+        List<ProjectTimelineEventDto> events = new ArrayList<>();
+        List<InquiryResponse> inquiries = new ArrayList<>();
+        List<NotificationDto> notifications = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(new ProjectTimelineEventDto((long) i, TimelineEventType.DEVELOPMENT, "Sprint " + i + " review",
+                    "Demoed the latest increment to the customer.", now, developer));
+            inquiries.add(new InquiryResponse((long) i, "Lead " + i, "lead" + i + "@example.com", "+1 555 0100",
+                    "Company " + i, "We would like a quote for a new platform. ".repeat(5), InquiryStatus.NEW,
+                    "Sales", "website", now));
+            notifications.add(new NotificationDto((long) i, NotificationType.TASK_UPDATED, "Task updated: Task " + i,
+                    "Developer Zero updated the task.", false, now, 1L, (long) i));
+        }
+        return new DeveloperWorkspaceResponse(board, events, assigned, summaries, inquiries, notifications, 12);
+    }
+
+    private static TaskBoardResponse taskBoard(int tasks) {
+        List<StaffSummary> developers = staff(8, Role.DEVELOPER, 2_000);
+        Map<TaskStatus, List<ProjectTaskDto>> columns = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.put(status, new ArrayList<>());
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int t = 0; t < tasks; t++) {
+            TaskStatus status = TaskStatus.values()[t % TaskStatus.values().length];
+            columns.get(status).add(new ProjectTaskDto((long) t, (long) (t % 12), "Project " + (t % 12),
+                    "Task " + t, "Implement the acceptance criteria for story " + t + ".", status,
+                    TaskPriority.values()[t % TaskPriority.values().length], LocalDate.now().plusDays(t % 30),
+                    developers.get(t % developers.size()), now));
+        }
+        return new TaskBoardResponse(columns.get(TaskStatus.TODO), columns.get(TaskStatus.IN_PROGRESS),
+                columns.get(TaskStatus.REVIEW), columns.get(TaskStatus.BLOCKED), columns.get(TaskStatus.DONE));
+    }
+
+    private static List<StaffSummary> staff(int count, Role role, long firstId) {
+        List<StaffSummary> staff = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = role.name().toLowerCase() + i;
+            staff.add(new StaffSummary(firstId + i, "Staff " + name, name + "@arcitech.dev", role));
+        }
+        return staff;
+    }
+}
@@ -0,0 +1,130 @@
+package com.arcitech.benchmark;
+
+import com.arcitech.ArcITechApplication;
+import com.arcitech.inquiry.Inquiry;
+import com.arcitech.inquiry.InquiryResponse;
+import com.arcitech.project.Project;
+import com.arcitech.project.ProjectResponse;
+import com.arcitech.project.ProjectTask;
+import com.arcitech.user.Role;
+import com.arcitech.user.User;
+import com.arcitech.user.UserProfile;
+import com.arcitech.user.dto.StaffSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares CPU time and allocation of the list-endpoint queries in a read-write transaction (auto flush,
+ * dirty-check snapshots) against a Spring read-only transaction (manual flush, read-only session).
+ * Boots the application on the {@code loadtest} profile so the data set comes from
+ * {@code LoadTestDataSeeder}. Not a unit test; run the main method from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.arcitech.benchmark.ReadOnlyTransactionBenchmark}.
+ */
+public final class ReadOnlyTransactionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private ReadOnlyTransactionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ArcITechApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0",
+                        "app.server-timing.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                    context.getBean(EntityManagerFactory.class));
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            Map<String, Function<EntityManager, Integer>> workloads = new LinkedHashMap<>();
+            workloads.put("GET /api/admin/projects", ReadOnlyTransactionBenchmark::projects);
+            workloads.put("GET /api/admin/inquiries", ReadOnlyTransactionBenchmark::inquiries);
+            workloads.put("GET /api/admin/users", ReadOnlyTransactionBenchmark::customers);
+            workloads.put("task lists (all projects)", ReadOnlyTransactionBenchmark::tasks);
+
+            System.out.printf("%-28s %-10s %8s %12s %14s%n", "workload", "tx", "rows", "cpu us/op", "alloc KB/op");
+            for (Map.Entry<String, Function<EntityManager, Integer>> workload : workloads.entrySet()) {
+                measure(workload.getKey(), "read-write", readWrite, entityManager, workload.getValue());
+                measure(workload.getKey(), "read-only", readOnly, entityManager, workload.getValue());
+            }
+        }
+    }
+
+    private static void measure(String name,
+                                String mode,
+                                TransactionTemplate transactionTemplate,
+                                EntityManager entityManager,
+                                Function<EntityManager, Integer> workload) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> workload.apply(entityManager));
+        }
+
+        int rows = 0;
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long allocStart = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            Integer result = transactionTemplate.execute(status -> workload.apply(entityManager));
+            rows = result != null ? result : 0;
+        }
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocStart;
+
+        System.out.printf("%-28s %-10s %8d %12.1f %14.1f%n",
+                name, mode, rows,
+                cpuNanos / 1_000.0 / MEASURED_ITERATIONS,
+                allocated / 1024.0 / MEASURED_ITERATIONS);
+    }
+
+    private static int projects(EntityManager entityManager) {
+        return entityManager.createQuery("select p from Project p order by p.updatedAt desc", Project.class)
+                .getResultList().stream()
+                .map(ProjectResponse::from)
+                .toList()
+                .size();
+    }
+
+    private static int inquiries(EntityManager entityManager) {
+        return entityManager.createQuery("select i from Inquiry i order by i.createdAt desc", Inquiry.class)
+                .getResultList().stream()
+                .map(InquiryResponse::from)
+                .toList()
+                .size();
+    }
+
+    private static int customers(EntityManager entityManager) {
+        return entityManager.createQuery("select u from User u where u.role = :role", User.class)
+                .setParameter("role", Role.CUSTOMER)
+                .getResultList().stream()
+                .map(UserProfile::from)
+                .toList()
+                .size();
+    }
+
+    private static int tasks(EntityManager entityManager) {
+        return entityManager.createQuery("select t from ProjectTask t", ProjectTask.class)
+                .getResultList().stream()
+                .map(task -> task.getAssignee() != null ? StaffSummary.from(task.getAssignee()) : null)
+                .toList()
+                .size();
+    }
+}
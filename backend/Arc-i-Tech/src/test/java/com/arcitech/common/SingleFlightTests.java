@@ -0,0 +1,151 @@
+package com.arcitech.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The loader blocks on a latch until every follower is parked on the in-flight result, so the
+ * followers are known to have joined the first call rather than started their own.
+ */
+class SingleFlightTests {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SingleFlight singleFlight = new SingleFlight(2000);
+
+    @Test
+    void concurrentCallersShareOneInvocation() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Object> results = new ConcurrentLinkedQueue<>();
+        Object shared = new Object();
+        Supplier<Object> loader = () -> {
+            invocations.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            return shared;
+        };
+
+        Thread leader = start(() -> results.add(singleFlight.run("k", loader)));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        List<Thread> followers = startFollowers(() -> results.add(singleFlight.run("k", loader)));
+        awaitParked(followers);
+        release.countDown();
+        join(leader, followers);
+
+        assertEquals(1, invocations.get());
+        assertEquals(FOLLOWERS + 1, results.size());
+        results.forEach(result -> assertSame(shared, result));
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("loader failed");
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        Supplier<Object> loader = () -> {
+            loading.countDown();
+            awaitQuietly(release);
+            throw failure;
+        };
+        Runnable call = () -> {
+            try {
+                singleFlight.run("k", loader);
+            } catch (RuntimeException ex) {
+                errors.add(ex);
+            }
+        };
+
+        Thread leader = start(call);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        List<Thread> followers = startFollowers(call);
+        awaitParked(followers);
+        release.countDown();
+        join(leader, followers);
+
+        assertEquals(FOLLOWERS + 1, errors.size());
+        errors.forEach(error -> assertSame(failure, error));
+    }
+
+    @Test
+    void runForgetsTheKeyOnceItCompletes() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        assertEquals(1, singleFlight.run("k", invocations::incrementAndGet));
+        assertEquals(2, singleFlight.run("k", invocations::incrementAndGet));
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.runCached("k", () -> {
+            invocations.incrementAndGet();
+            throw new IllegalStateException("loader failed");
+        }));
+        assertEquals(2, singleFlight.runCached("k", invocations::incrementAndGet));
+    }
+
+    @Test
+    void runCachedReusesTheResultUntilInvalidated() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        assertEquals(1, singleFlight.runCached("projects:1", invocations::incrementAndGet));
+        assertEquals(1, singleFlight.runCached("projects:1", invocations::incrementAndGet));
+        singleFlight.invalidate("projects:");
+        assertEquals(2, singleFlight.runCached("projects:1", invocations::incrementAndGet));
+    }
+
+    private static Thread start(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.start();
+        return thread;
+    }
+
+    private static List<Thread> startFollowers(Runnable task) {
+        List<Thread> followers = new ArrayList<>(FOLLOWERS);
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(start(task));
+        }
+        return followers;
+    }
+
+    private static void awaitParked(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                assertTrue(System.nanoTime() < deadline, "follower never started waiting");
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private static void join(Thread leader, List<Thread> followers) throws InterruptedException {
+        leader.join(5000);
+        for (Thread follower : followers) {
+            follower.join(5000);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.arcitech.datasource;
+
+import com.arcitech.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two embedded H2 databases stand in for the primary and the replica; each holds a single row
+ * naming itself, so the query result shows which pool served the transaction.
+ */
+class ReadReplicaDataSourceTests {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadYourWritesTracker tracker;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        tracker = new ReadYourWritesTracker(Duration.ofMillis(200), 100);
+        ReadReplicaDataSource dataSource = new ReadReplicaDataSource(primary, replica, tracker);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+    }
+
+    @Test
+    void recentWriterReadsFromPrimaryUntilWindowEnds() throws InterruptedException {
+        signIn(7L);
+        tracker.markWrite(7L);
+        assertEquals("primary", readOnly.execute(status -> servedBy()));
+
+        signIn(8L);
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+
+        signIn(7L);
+        Thread.sleep(300);
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void cacheFillsReadFromPrimary() {
+        assertEquals("primary", PrimaryReads.call(() -> readOnly.execute(status -> servedBy())));
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    private String servedBy() {
+        return jdbc.queryForObject("select name from served_by", String.class);
+    }
+
+    private static void signIn(Long userId) {
+        User user = User.builder().id(userId).email("user" + userId + "@arcitech.test").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("create table served_by (name varchar(16))");
+        jdbc.update("insert into served_by (name) values (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,106 @@
+package com.arcitech.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Same primary/replica pair as {@link ReadReplicaDataSourceTests}, but behind Hibernate and
+ * {@link JpaTransactionManager} the way the application runs, to cover a request that reads and then
+ * writes. Routing is decided per connection, so it only holds while every transaction gets its own
+ * entity manager; that is why {@code spring.jpa.open-in-view} is off.
+ */
+class ReadReplicaJpaTransactionTests {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        ReadReplicaDataSource dataSource = new ReadReplicaDataSource(primary, replica,
+                new ReadYourWritesTracker(Duration.ofSeconds(5), 100));
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.arcitech.datasource");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(holder.getEntityManager());
+        }
+        factoryBean.destroy();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void writeAfterReadOnlyTransactionGoesToPrimary() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void requestScopedEntityManagerKeepsTheReplicaConnection() {
+        // What OpenEntityManagerInViewInterceptor does: one entity manager for the whole request
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals("replica", readWrite.execute(status -> servedBy()));
+    }
+
+    private String servedBy() {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        return (String) entityManager.createNativeQuery("select name from served_by").getSingleResult();
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("create table served_by (name varchar(16))");
+        jdbc.update("insert into served_by (name) values (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,110 @@
+package com.arcitech.inquiry;
+
+import com.arcitech.common.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The limiter reads {@link System#nanoTime()} directly, so these tests use a refill rate slow
+ * enough that no token comes back while a test runs, except where refill is the point.
+ */
+class InquiryRateLimiterTests {
+
+    @Test
+    void allowsTheBurstCapacityThenRejectsWithRetryAfter() {
+        InquiryRateLimiter limiter = new InquiryRateLimiter(3, 1, 4, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> limiter.acquire("10.0.0.1"));
+        }
+        TooManyRequestsException rejected = assertThrows(TooManyRequestsException.class,
+                () -> limiter.acquire("10.0.0.1"));
+
+        // One token per minute, and the bucket is empty
+        assertTrue(rejected.getRetryAfterSeconds() > 55 && rejected.getRetryAfterSeconds() <= 60,
+                "retry after " + rejected.getRetryAfterSeconds());
+        InquiryRateLimiter.Stats stats = limiter.stats();
+        assertEquals(3, stats.allowed());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        InquiryRateLimiter limiter = new InquiryRateLimiter(1, 1, 4, 1000);
+
+        limiter.acquire("10.0.0.1");
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.2"));
+        assertEquals(2, limiter.stats().trackedClients());
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        // 6000 per minute is one token every 10ms
+        InquiryRateLimiter limiter = new InquiryRateLimiter(1, 6000, 1, 1000);
+
+        limiter.acquire("10.0.0.1");
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("10.0.0.1"));
+        Thread.sleep(50);
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1"));
+    }
+
+    @Test
+    void evictsLeastRecentlySeenClientsOnceAStripeIsFull() {
+        InquiryRateLimiter limiter = new InquiryRateLimiter(1, 1, 1, 2);
+
+        limiter.acquire("a");
+        limiter.acquire("b");
+        limiter.acquire("c");
+
+        assertEquals(2, limiter.stats().trackedClients());
+        // "a" was evicted, so it starts again with a full bucket
+        assertDoesNotThrow(() -> limiter.acquire("a"));
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("c"));
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheCapacity() throws InterruptedException {
+        InquiryRateLimiter limiter = new InquiryRateLimiter(50, 1, 8, 1000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        try {
+            for (int i = 0; i < 200; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        limiter.acquire("10.0.0.1");
+                        granted.incrementAndGet();
+                    } catch (TooManyRequestsException | InterruptedException ignored) {
+                        // rejected or cancelled; only grants are counted
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(50, granted.get());
+        assertEquals(150, limiter.stats().rejected());
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new InquiryRateLimiter(0, 5, 4, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new InquiryRateLimiter(5, 0, 4, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new InquiryRateLimiter(5, 5, 0, 1000));
+    }
+}
@@ -0,0 +1,114 @@
+package com.arcitech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Minimal JSON client for one virtual user. Every call is timed and recorded under its request name
+ * whether it succeeds or not; a 4xx/5xx or I/O failure counts as an error.
+ */
+final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Map<String, LatencyStats> stats = new HashMap<>();
+    private volatile boolean recording;
+    private String token;
+
+    ApiClient(HttpClient http, String baseUrl, Duration timeout) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    Map<String, LatencyStats> stats() {
+        return stats;
+    }
+
+    boolean login(String email, String password) {
+        String body = "{\"email\":" + quote(email) + ",\"password\":" + quote(password) + "}";
+        JsonNode response = send("POST /api/auth/login", "/api/auth/login", "POST", body, false);
+        if (response == null) {
+            token = null;
+            return false;
+        }
+        token = response.path("data").path("token").asText(null);
+        return token != null;
+    }
+
+    JsonNode get(String name, String path) {
+        return send(name, path, "GET", null, true);
+    }
+
+    JsonNode post(String name, String path, String jsonBody) {
+        return send(name, path, "POST", jsonBody, true);
+    }
+
+    private JsonNode send(String name, String path, String method, String jsonBody, boolean authenticated) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (authenticated && token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (jsonBody != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(jsonBody));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long started = System.nanoTime();
+        boolean error = true;
+        try {
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            error = response.statusCode() >= 400;
+            if (error || response.body().length == 0) {
+                return null;
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            return contentType.contains("json") ? MAPPER.readTree(response.body()) : MAPPER.nullNode();
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (recording) {
+                stats.computeIfAbsent(name, key -> new LatencyStats())
+                        .record((System.nanoTime() - started) / 1_000, error);
+            }
+        }
+    }
+
+    static void mergeInto(Map<String, LatencyStats> target, Map<String, LatencyStats> source) {
+        for (Entry<String, LatencyStats> entry : source.entrySet()) {
+            target.computeIfAbsent(entry.getKey(), key -> new LatencyStats()).merge(entry.getValue());
+        }
+    }
+
+    private static String quote(String value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.arcitech.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples for one request name, recorded by a single virtual user and merged at the end of
+ * the run. Raw samples are kept so percentiles are exact.
+ */
+final class LatencyStats {
+
+    private long[] micros = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long elapsedMicros, boolean error) {
+        if (size == micros.length) {
+            micros = Arrays.copyOf(micros, size * 2);
+        }
+        micros[size++] = elapsedMicros;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyStats other) {
+        if (size + other.size > micros.length) {
+            micros = Arrays.copyOf(micros, Math.max(micros.length * 2, size + other.size));
+        }
+        System.arraycopy(other.micros, 0, micros, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Returns a sorted copy of the samples.
+     */
+    long[] sorted() {
+        long[] samples = Arrays.copyOf(micros, size);
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+}
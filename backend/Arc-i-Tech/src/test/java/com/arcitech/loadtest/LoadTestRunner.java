@@ -0,0 +1,176 @@
+package com.arcitech.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-model load generator for the role scenarios in {@link Scenario}. Each virtual user is a
+ * thread looping its scenario with an optional think time; samples taken during warm-up are discarded.
+ * Prints per-request throughput, latency percentiles and error rates.
+ *
+ * <p>Start the API with the {@code loadtest} profile (embedded H2 seeded by {@code LoadTestDataSeeder}),
+ * then run the main method from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.arcitech.loadtest.LoadTestRunner}.
+ * Tunables are system properties, e.g. {@code -Dloadtest.customers=100 -Dloadtest.duration=120}:
+ * <ul>
+ *     <li>{@code loadtest.baseUrl} (default {@code http://localhost:8080})</li>
+ *     <li>{@code loadtest.customers}, {@code loadtest.developers}, {@code loadtest.admins},
+ *     {@code loadtest.anonymous}: virtual users per scenario</li>
+ *     <li>{@code loadtest.warmup} and {@code loadtest.duration}: seconds</li>
+ *     <li>{@code loadtest.thinkTimeMs}: pause between iterations</li>
+ *     <li>{@code loadtest.seededCustomers}, {@code loadtest.seededDevelopers}, {@code loadtest.password}:
+ *     must match {@code app.loadtest.seed.*} on the server</li>
+ * </ul>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 15);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        long thinkTimeMs = Long.getLong("loadtest.thinkTimeMs", 0L);
+        int seededCustomers = Integer.getInteger("loadtest.seededCustomers", 200);
+        int seededDevelopers = Integer.getInteger("loadtest.seededDevelopers", 20);
+        String password = System.getProperty("loadtest.password", "LoadTest123!");
+
+        List<Run> runs = new ArrayList<>();
+        for (int i = 0; i < Integer.getInteger("loadtest.customers", 40); i++) {
+            runs.add(new Run(Scenario.CUSTOMER, new Scenario.VirtualUser(
+                    "loadtest.customer%d@arcitech.test".formatted(i % seededCustomers + 1), password)));
+        }
+        for (int i = 0; i < Integer.getInteger("loadtest.developers", 10); i++) {
+            runs.add(new Run(Scenario.DEVELOPER, new Scenario.VirtualUser(
+                    "loadtest.dev%d@arcitech.test".formatted(i % seededDevelopers + 1), password)));
+        }
+        for (int i = 0; i < Integer.getInteger("loadtest.admins", 2); i++) {
+            runs.add(new Run(Scenario.ADMIN, new Scenario.VirtualUser(
+                    System.getProperty("loadtest.adminEmail", "admin@arcitech.com"),
+                    System.getProperty("loadtest.adminPassword", "ChangeMe123!"))));
+        }
+        for (int i = 0; i < Integer.getInteger("loadtest.anonymous", 20); i++) {
+            runs.add(new Run(Scenario.ANONYMOUS, new Scenario.VirtualUser(null, null)));
+        }
+        if (runs.isEmpty()) {
+            System.out.println("No virtual users configured");
+            return;
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        Duration requestTimeout = Duration.ofSeconds(Integer.getInteger("loadtest.timeoutSeconds", 30));
+
+        System.out.printf("Running %d virtual users against %s: %ds warm-up, %ds measured, think time %d ms%n",
+                runs.size(), baseUrl, warmupSeconds, durationSeconds, thinkTimeMs);
+
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch done = new CountDownLatch(runs.size());
+        ExecutorService users = Executors.newFixedThreadPool(runs.size());
+        for (Run run : runs) {
+            run.client = new ApiClient(http, baseUrl, requestTimeout);
+            users.execute(() -> {
+                try {
+                    loop(run, measureStart, measureEnd, thinkTimeMs);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        users.shutdown();
+
+        Map<String, LatencyStats> merged = new TreeMap<>();
+        int failedToStart = 0;
+        for (Run run : runs) {
+            ApiClient.mergeInto(merged, run.client.stats());
+            if (!run.prepared) {
+                failedToStart++;
+            }
+        }
+        if (failedToStart > 0) {
+            System.out.printf("%d virtual user(s) could not log in and did not run%n", failedToStart);
+        }
+        report(merged, durationSeconds);
+        System.exit(0);
+    }
+
+    private static void loop(Run run, long measureStart, long measureEnd, long thinkTimeMs) {
+        run.prepared = run.scenario.prepare(run.client, run.user);
+        if (!run.prepared) {
+            return;
+        }
+        boolean recording = false;
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= measureEnd) {
+                return;
+            }
+            if (!recording && now >= measureStart) {
+                run.client.startRecording();
+                recording = true;
+            }
+            run.scenario.iterate(run.client, run.user);
+            if (thinkTimeMs > 0) {
+                try {
+                    Thread.sleep(thinkTimeMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void report(Map<String, LatencyStats> stats, int durationSeconds) {
+        String format = "%-42s %9s %8s %7s %9s %9s %9s %9s %9s%n";
+        System.out.printf(format, "request", "count", "errors", "err%", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        LatencyStats total = new LatencyStats();
+        for (Map.Entry<String, LatencyStats> entry : stats.entrySet()) {
+            print(format, entry.getKey(), entry.getValue(), durationSeconds);
+            total.merge(entry.getValue());
+        }
+        print(format, "TOTAL", total, durationSeconds);
+    }
+
+    private static void print(String format, String name, LatencyStats stats, int durationSeconds) {
+        long[] sorted = stats.sorted();
+        int count = stats.count();
+        System.out.printf(Locale.ROOT, format,
+                name,
+                count,
+                stats.errors(),
+                String.format(Locale.ROOT, "%.2f", count == 0 ? 0 : 100.0 * stats.errors() / count),
+                String.format(Locale.ROOT, "%.1f", (double) count / durationSeconds),
+                String.format(Locale.ROOT, "%.1f", LatencyStats.percentileMillis(sorted, 50)),
+                String.format(Locale.ROOT, "%.1f", LatencyStats.percentileMillis(sorted, 90)),
+                String.format(Locale.ROOT, "%.1f", LatencyStats.percentileMillis(sorted, 99)),
+                String.format(Locale.ROOT, "%.1f", LatencyStats.percentileMillis(sorted, 100)));
+    }
+
+    private static final class Run {
+        private final Scenario scenario;
+        private final Scenario.VirtualUser user;
+        private ApiClient client;
+        private volatile boolean prepared;
+
+        Run(Scenario scenario, Scenario.VirtualUser user) {
+            this.scenario = scenario;
+            this.user = user;
+        }
+    }
+}
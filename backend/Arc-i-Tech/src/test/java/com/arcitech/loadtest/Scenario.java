@@ -0,0 +1,110 @@
+package com.arcitech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Scripted role journeys. {@link #prepare} runs once per virtual user before measurement starts and
+ * {@link #iterate} runs in a loop until the run ends.
+ */
+enum Scenario {
+
+    /**
+     * A customer session: login, project list, the first project's task board and the chat thread,
+     * posting a message every fifth session.
+     */
+    CUSTOMER {
+        @Override
+        void iterate(ApiClient client, VirtualUser user) {
+            if (!client.login(user.email(), user.password())) {
+                return;
+            }
+            JsonNode projects = client.get("GET /api/projects", "/api/projects");
+            JsonNode first = projects != null ? projects.path("data").path(0) : null;
+            if (first != null && first.hasNonNull("id")) {
+                client.get("GET /api/dashboard/projects/{id}/tasks",
+                        "/api/dashboard/projects/" + first.get("id").asLong() + "/tasks");
+            }
+            client.get("GET /api/chat/messages", "/api/chat/messages");
+            if (user.nextIteration() % 5 == 0) {
+                client.post("POST /api/chat/messages", "/api/chat/messages",
+                        "{\"message\":\"Load-test ping " + user.iteration() + "\"}");
+            }
+        }
+    },
+
+    /**
+     * A developer keeping the workspace dashboard open, which polls it.
+     */
+    DEVELOPER {
+        @Override
+        boolean prepare(ApiClient client, VirtualUser user) {
+            return client.login(user.email(), user.password());
+        }
+
+        @Override
+        void iterate(ApiClient client, VirtualUser user) {
+            client.get("GET /api/developer/workspace", "/api/developer/workspace");
+        }
+    },
+
+    /**
+     * A super admin browsing the project pipeline and relationship graph and exporting the projects report.
+     */
+    ADMIN {
+        @Override
+        boolean prepare(ApiClient client, VirtualUser user) {
+            return client.login(user.email(), user.password());
+        }
+
+        @Override
+        void iterate(ApiClient client, VirtualUser user) {
+            client.get("GET /api/admin/projects", "/api/admin/projects");
+            client.get("GET /api/super-admin/relationships", "/api/super-admin/relationships");
+            client.get("GET /api/super-admin/reports/projects", "/api/super-admin/reports/projects");
+        }
+    },
+
+    /**
+     * An anonymous visitor on the marketing pages.
+     */
+    ANONYMOUS {
+        @Override
+        void iterate(ApiClient client, VirtualUser user) {
+            client.get("GET /api/services", "/api/services");
+            client.get("GET /api/projects/highlights", "/api/projects/highlights");
+        }
+    };
+
+    boolean prepare(ApiClient client, VirtualUser user) {
+        return true;
+    }
+
+    abstract void iterate(ApiClient client, VirtualUser user);
+
+    static final class VirtualUser {
+        private final String email;
+        private final String password;
+        private long iteration;
+
+        VirtualUser(String email, String password) {
+            this.email = email;
+            this.password = password;
+        }
+
+        String email() {
+            return email;
+        }
+
+        String password() {
+            return password;
+        }
+
+        long iteration() {
+            return iteration;
+        }
+
+        long nextIteration() {
+            return ++iteration;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.arcitech.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises the index directly, without Spring or a transaction, so {@code index} and
+ * {@code remove} apply immediately rather than after commit.
+ */
+class SearchIndexTests {
+
+    private static final Set<SearchDocumentType> ALL_TYPES = EnumSet.allOf(SearchDocumentType.class);
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+    }
+
+    @Test
+    void tokenizeLowercasesSplitsOnPunctuationAndDropsSingleCharacters() {
+        assertEquals(List.of("mobile", "app", "v2", "ios"), SearchIndex.tokenize("Mobile-App v2 (iOS) & a"));
+        assertEquals(List.of(), SearchIndex.tokenize("   "));
+        assertEquals(List.of(), SearchIndex.tokenize(null));
+    }
+
+    @Test
+    void titleMatchRanksAboveBodyMatch() {
+        index.index(document(SearchDocumentType.PROJECT, 1L, "Inventory sync", "Warehouse tooling"));
+        index.index(document(SearchDocumentType.PROJECT, 2L, "Warehouse portal", "Nightly inventory export"));
+
+        assertEquals(List.of(1L, 2L), ids(index.search("inventory", ALL_TYPES, 0, 10).items()));
+    }
+
+    @Test
+    void everyTermMustMatchAndTheLastOneMatchesAsPrefix() {
+        index.index(document(SearchDocumentType.INQUIRY, 1L, "Payment gateway", "Stripe integration for checkout"));
+        index.index(document(SearchDocumentType.INQUIRY, 2L, "Payment reports", "Monthly exports"));
+
+        assertEquals(List.of(1L), ids(index.search("payment integ", ALL_TYPES, 0, 10).items()));
+        assertEquals(0, index.search("payment mobile", ALL_TYPES, 0, 10).totalItems());
+    }
+
+    @Test
+    void searchIsLimitedToRequestedTypes() {
+        index.index(document(SearchDocumentType.SERVICE, 1L, "Cloud migration", null));
+        index.index(document(SearchDocumentType.PROJECT, 1L, "Cloud migration", null));
+
+        List<SearchHit> hits = index.search("cloud", EnumSet.of(SearchDocumentType.SERVICE), 0, 10).items();
+        assertEquals(1, hits.size());
+        assertEquals(SearchDocumentType.SERVICE, hits.get(0).type());
+    }
+
+    @Test
+    void reindexingReplacesTheOldTerms() {
+        index.index(document(SearchDocumentType.PROJECT, 1L, "Legacy name", "First draft"));
+        index.index(document(SearchDocumentType.PROJECT, 1L, "Renamed project", "Second draft"));
+
+        assertEquals(0, index.search("legacy", ALL_TYPES, 0, 10).totalItems());
+        assertEquals(List.of(1L), ids(index.search("renamed", ALL_TYPES, 0, 10).items()));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void removeDropsTheDocumentFromResults() {
+        index.index(document(SearchDocumentType.DISCUSSION, 1L, "Release checklist", null));
+        index.index(document(SearchDocumentType.DISCUSSION, 2L, "Release notes", null));
+
+        index.remove(SearchDocumentType.DISCUSSION, 1L);
+
+        assertEquals(List.of(2L), ids(index.search("release", ALL_TYPES, 0, 10).items()));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void rebuildKeepsDocumentsWrittenWhileItLoads() {
+        index.beginRebuild();
+        index.index(document(SearchDocumentType.PROJECT, 1L, "Fresh title", null));
+        index.load(List.of(document(SearchDocumentType.PROJECT, 1L, "Stale title", null)));
+        index.endRebuild();
+
+        assertEquals(0, index.search("stale", ALL_TYPES, 0, 10).totalItems());
+        assertEquals(1, index.search("fresh", ALL_TYPES, 0, 10).totalItems());
+    }
+
+    @Test
+    void pagesThroughRankedHits() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(document(SearchDocumentType.SERVICE, id, "Design sprint " + id, null));
+        }
+
+        var page = index.search("design", ALL_TYPES, 1, 2);
+        assertEquals(5, page.totalItems());
+        assertEquals(2, page.items().size());
+        assertTrue(page.items().stream().allMatch(hit -> hit.score() > 0));
+    }
+
+    @Test
+    void pageFarPastTheEndIsEmptyRatherThanOverflowing() {
+        index.index(document(SearchDocumentType.SERVICE, 1L, "Design sprint", null));
+
+        var page = index.search("design", ALL_TYPES, Integer.MAX_VALUE, 100);
+        assertEquals(1, page.totalItems());
+        assertTrue(page.items().isEmpty());
+    }
+
+    private static SearchDocument document(SearchDocumentType type, Long id, String title, String body) {
+        return new SearchDocument(type, id, title, null, body, null);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+}
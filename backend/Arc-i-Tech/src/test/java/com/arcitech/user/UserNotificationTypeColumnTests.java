@@ -0,0 +1,60 @@
+package com.arcitech.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * H2 creates native enum columns just like MySQL does, so it shows whether the notification type is
+ * still pinned to varchar and whether every constant, including the ones added after the first
+ * release, can be written.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UserNotificationTypeColumnTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @EnumSource(NotificationType.class)
+    void persistsEveryNotificationType(NotificationType type) {
+        User recipient = entityManager.persist(User.builder()
+                .fullName("Recipient")
+                .email(type.name().toLowerCase() + "@arcitech.test")
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .active(true)
+                .build());
+
+        UserNotification saved = entityManager.persistFlushFind(UserNotification.builder()
+                .recipient(recipient)
+                .type(type)
+                .title("Title")
+                .message("Message")
+                .build());
+
+        entityManager.clear();
+        assertEquals(type, entityManager.find(UserNotification.class, saved.getId()).getType());
+    }
+
+    @Test
+    void typeColumnsAreVarchar() {
+        assertEquals("CHARACTER VARYING", columnType("USER_NOTIFICATIONS"));
+        assertEquals("CHARACTER VARYING", columnType("USER_NOTIFICATIONS_ARCHIVE"));
+    }
+
+    private String columnType(String table) {
+        return jdbcTemplate.queryForObject(
+                "select data_type from information_schema.columns where table_name = ? and column_name = 'TYPE'",
+                String.class, table);
+    }
+}
@@ -9,8 +9,10 @@ import {
   AdminDiscussion,
   ChatMessage,
   Inquiry,
+  InquirySummary,
   Project,
   ProjectAssignment,
+  ProjectSummary,
   ProjectTask,
   TaskBoard,
   TaskStatus,
@@ -125,8 +127,9 @@ export default function AdminPage() {
 
   const [loading, setLoading] = useState(true);
   const [mounted, setMounted] = useState(false);
-  const [projects, setProjects] = useState<Project[]>([]);
-  const [inquiries, setInquiries] = useState<Inquiry[]>([]);
+  const [projects, setProjects] = useState<ProjectSummary[]>([]);
+  const [inquiries, setInquiries] = useState<InquirySummary[]>([]);
+  const [fullInquiryMessages, setFullInquiryMessages] = useState<Record<number, string>>({});
   const [customers, setCustomers] = useState<UserProfile[]>([]);
   const [discussions, setDiscussions] = useState<AdminDiscussion[]>([]);
   const [assignments, setAssignments] = useState<ProjectAssignment[]>([]);
@@ -377,8 +380,8 @@ export default function AdminPage() {
       setLoading(true);
       const [projectRes, inquiryRes, customerRes, discussionRes] =
           await Promise.all([
-            apiFetch<Project[]>("/api/admin/projects", { token }),
-            apiFetch<Inquiry[]>("/api/admin/inquiries", { token }),
+            apiFetch<ProjectSummary[]>("/api/admin/projects", { token }),
+            apiFetch<InquirySummary[]>("/api/admin/inquiries", { token }),
             apiFetch<UserProfile[]>("/api/admin/users", { token }),
             apiFetch<AdminDiscussion[]>(
                 "/api/admin/discussions/context/PROJECT",
@@ -459,8 +462,13 @@ export default function AdminPage() {
         }),
       },
     );
+    const { details, ...updated } = response.data;
     setProjects((prev) =>
-      prev.map((project) => (project.id === projectId ? response.data : project)),
+      prev.map((project) =>
+        project.id === projectId
+          ? { ...updated, detailsPreview: details ? details.slice(0, 280) : null }
+          : project,
+      ),
     );
   };
 
@@ -479,9 +487,12 @@ export default function AdminPage() {
           body: JSON.stringify(updates),
         },
       );
+      const { message, ...updated } = response.data;
       setInquiries((prev) =>
         prev.map((inquiry) =>
-          inquiry.id === inquiryId ? response.data : inquiry,
+          inquiry.id === inquiryId
+            ? { ...updated, messagePreview: message.slice(0, 280) }
+            : inquiry,
         ),
       );
     } finally {
@@ -489,6 +500,17 @@ export default function AdminPage() {
     }
   };
 
+  const handleShowFullInquiry = async (inquiryId: number) => {
+    if (!token) return;
+    const response = await apiFetch<Inquiry>(`/api/admin/inquiries/${inquiryId}`, {
+      token,
+    });
+    setFullInquiryMessages((prev) => ({
+      ...prev,
+      [inquiryId]: response.data.message,
+    }));
+  };
+
   const handleSendChat = async (message: string) => {
     if (!token || !selectedCustomerId) return;
     const response = await apiFetch<ChatMessage>(
@@ -1244,8 +1266,18 @@ export default function AdminPage() {
                       </span>
                     </div>
                     <p className="mt-3 text-sm text-slate-600">
-                      {inquiry.message}
+                      {fullInquiryMessages[inquiry.id] ?? inquiry.messagePreview}
                     </p>
+                    {fullInquiryMessages[inquiry.id] === undefined &&
+                      inquiry.messagePreview.length >= 280 && (
+                        <button
+                          type="button"
+                          onClick={() => handleShowFullInquiry(inquiry.id)}
+                          className="mt-1 text-xs font-semibold text-indigo-600 hover:text-indigo-500"
+                        >
+                          Read full message
+                        </button>
+                      )}
                     <div className="mt-3 grid gap-3 md:grid-cols-2">
                       <label className="text-xs font-semibold text-slate-600">
                         Status
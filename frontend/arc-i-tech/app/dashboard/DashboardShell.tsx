@@ -18,6 +18,7 @@ import {
 import {
   ChatMessage,
   Project,
+  ProjectSummary,
   ProjectTask,
   ServiceOffering,
   TaskBoard,
@@ -374,7 +375,7 @@ const PROGRAM_MEETS_KEY = "arc-program-meets";
 export default function DashboardPage() {
   const router = useRouter();
   const { token, user, isAuthenticated } = useAuth();
-  const [projects, setProjects] = useState<Project[]>([]);
+  const [projects, setProjects] = useState<ProjectSummary[]>([]);
   const [services, setServices] = useState<ServiceOffering[]>([]);
   const [messages, setMessages] = useState<ChatMessage[]>([]);
   const [loading, setLoading] = useState(true);
@@ -557,7 +558,7 @@ export default function DashboardPage() {
     };
   }, []);
 
-  const loadTaskSummaries = useCallback(async (projectList: Project[]) => {
+  const loadTaskSummaries = useCallback(async (projectList: ProjectSummary[]) => {
     if (!token) {
       return;
     }
@@ -698,7 +699,7 @@ export default function DashboardPage() {
     try {
       setLoading(true);
       const [projectResponse, serviceResponse, chatResponse] = await Promise.all([
-        apiFetch<Project[]>("/api/projects", { token }),
+        apiFetch<ProjectSummary[]>("/api/projects", { token }),
         apiFetch<ServiceOffering[]>("/api/services/featured"),
         apiFetch<ChatMessage[]>("/api/chat/messages", { token }),
       ]);
@@ -733,7 +734,11 @@ export default function DashboardPage() {
       });
       setFormFeedback(response.message ?? "Project request submitted.");
       setProjectForm(emptyProjectForm);
-      setProjects((prev) => [response.data, ...prev]);
+      const { details, ...created } = response.data;
+      setProjects((prev) => [
+        { ...created, detailsPreview: details ? details.slice(0, 280) : null },
+        ...prev,
+      ]);
       setTaskSummaries((prev) => ({
         ...prev,
         [response.data.id]: { ...emptyTaskSummary },
@@ -1373,7 +1378,7 @@ export default function DashboardPage() {
             ) : (
               <ul className="mt-3 space-y-2 text-sm text-slate-600">
                 {completedProjects.map((project) => {
-                  const featureLines = extractFeatureLines(project.details);
+                  const featureLines = extractFeatureLines(project.detailsPreview);
                   return (
                     <li
                       key={`completed-${project.id}`}
@@ -1396,8 +1401,8 @@ export default function DashboardPage() {
                             <li key={`${project.id}-completed-feature-${index}`}>{line}</li>
                           ))}
                         </ul>
-                      ) : project.details ? (
-                        <p className="mt-2 text-[11px] text-slate-500">{project.details}</p>
+                      ) : project.detailsPreview ? (
+                        <p className="mt-2 text-[11px] text-slate-500">{project.detailsPreview}</p>
                       ) : null}
                     </li>
                   );
@@ -1424,7 +1429,7 @@ export default function DashboardPage() {
                 </p>
               )}
               {projects.map((project) => {
-                const featureLines = extractFeatureLines(project.details);
+                const featureLines = extractFeatureLines(project.detailsPreview);
                 const taskSummary = taskSummaries[project.id] ?? emptyTaskSummary;
                 const pendingTasksCount =
                   taskSummary.todo + taskSummary.inProgress + taskSummary.review + taskSummary.blocked;
@@ -1498,9 +1503,9 @@ export default function DashboardPage() {
                           ))}
                         </ul>
                       </div>
-                    ) : project.details ? (
+                    ) : project.detailsPreview ? (
                       <p className="mt-2 text-xs text-slate-500">
-                        {project.details}
+                        {project.detailsPreview}
                       </p>
                     ) : (
                       <p className="mt-2 text-xs text-slate-400">
@@ -14,8 +14,10 @@ import {
   AdminDiscussion,
   Project,
   ProjectAssignment,
+  ProjectSummary,
   ServiceFormPayload,
   ServiceOffering,
+  ServiceOfferingSummary,
   UserProfile,
 } from "@/types";
 import {
@@ -220,8 +222,8 @@ export default function SuperAdminPage() {
   const [customers, setCustomers] = useState<UserProfile[]>([]);
   const [subAdmins, setSubAdmins] = useState<UserProfile[]>([]);
   const [developers, setDevelopers] = useState<UserProfile[]>([]);
-  const [services, setServices] = useState<ServiceOffering[]>([]);
-  const [projects, setProjects] = useState<Project[]>([]);
+  const [services, setServices] = useState<ServiceOfferingSummary[]>([]);
+  const [projects, setProjects] = useState<ProjectSummary[]>([]);
   const [assignments, setAssignments] = useState<ProjectAssignment[]>([]);
   const [discussions, setDiscussions] = useState<AdminDiscussion[]>([]);
 
@@ -317,8 +319,8 @@ export default function SuperAdminPage() {
         apiFetch<UserProfile[]>("/api/admin/users", { token }),
         apiFetch<UserProfile[]>("/api/super-admin/staff/sub-admins", { token }),
         apiFetch<UserProfile[]>("/api/super-admin/staff/developers", { token }),
-        apiFetch<ServiceOffering[]>("/api/super-admin/services", { token }),
-        apiFetch<Project[]>("/api/admin/projects", { token }),
+        apiFetch<ServiceOfferingSummary[]>("/api/super-admin/services", { token }),
+        apiFetch<ProjectSummary[]>("/api/admin/projects", { token }),
         apiFetch<AdminDiscussion[]>(
           "/api/admin/discussions/context/PROJECT",
           { token },
@@ -498,7 +500,11 @@ export default function SuperAdminPage() {
           progressPercentage: 100,
         }),
       });
-      const updatedProject = response.data;
+      const { details, ...updated } = response.data;
+      const updatedProject: ProjectSummary = {
+        ...updated,
+        detailsPreview: details ? details.slice(0, 280) : null,
+      };
       setProjects((prev) =>
         prev.map((item) => (item.id === updatedProject.id ? updatedProject : item)),
       );
@@ -621,7 +627,10 @@ export default function SuperAdminPage() {
     }
   };
 
-  const handleEditService = (service: ServiceOffering) => {
+  const handleEditService = async (summary: ServiceOfferingSummary) => {
+    // The list omits the long description, so load the full service before editing
+    const response = await apiFetch<ServiceOffering>(`/api/services/${summary.id}`, { token });
+    const service = response.data;
     setServiceForm({
       name: service.name,
       shortDescription: service.shortDescription,
@@ -927,7 +936,7 @@ export default function SuperAdminPage() {
               </p>
             ) : (
               projects.map((project) => {
-                const featureLines = extractFeatureLines(project.details);
+                const featureLines = extractFeatureLines(project.detailsPreview);
                 const progressValue = Math.min(Math.max(project.progressPercentage ?? 0, 0), 100);
                 const isComplete =
                   project.status === "DEPLOYED" || (project.progressPercentage ?? 0) >= 100;
@@ -29,6 +29,14 @@ export type ProjectStatus =
   | "DEPLOYED"
   | "ON_HOLD";
 
+export interface ProjectTaskCounts {
+  todo: number;
+  inProgress: number;
+  review: number;
+  blocked: number;
+  done: number;
+}
+
 export interface Project {
   id: number;
   name: string;
@@ -36,15 +44,22 @@ export interface Project {
   details: string | null;
   status: ProjectStatus;
   progressPercentage: number;
+  autoProgress: boolean;
+  taskCounts: ProjectTaskCounts;
   startDate: string | null;
   targetDate: string | null;
   highlighted: boolean;
+  archived: boolean;
   clientId: number | null;
   clientName: string | null;
   createdAt: string;
   updatedAt: string;
 }
 
+export interface ProjectSummary extends Omit<Project, "details"> {
+  detailsPreview: string | null;
+}
+
 export interface ServiceOffering {
   id: number;
   name: string;
@@ -56,6 +71,8 @@ export interface ServiceOffering {
   featured: boolean;
 }
 
+export type ServiceOfferingSummary = Omit<ServiceOffering, "detailedDescription">;
+
 export type InquiryStatus =
   | "NEW"
   | "IN_DISCUSSION"
@@ -77,6 +94,10 @@ export interface Inquiry {
   createdAt: string;
 }
 
+export interface InquirySummary extends Omit<Inquiry, "message"> {
+  messagePreview: string;
+}
+
 export interface ChatMessage {
   id: number;
   senderRole: Role;
@@ -145,6 +166,7 @@ export type NotificationType =
   | "INQUIRY_SUBMITTED"
   | "PROJECT_NOTE"
   | "PROJECT_COMPLETED"
+  | "ANNOUNCEMENT"
   | "CUSTOM";
 
 export interface StaffSummary {